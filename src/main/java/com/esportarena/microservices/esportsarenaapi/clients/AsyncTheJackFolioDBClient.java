@@ -0,0 +1,134 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.models.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+public class AsyncTheJackFolioDBClient {
+
+    @Autowired
+    private TheJackFolioDBClient dbClient;
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor executor;
+
+    public CompletableFuture<ResponseEntity<ProfileDetail>> getProfileDetails(String email) {
+        return supply(() -> dbClient.getProfileDetails(email));
+    }
+
+    public CompletableFuture<ResponseEntity<List<ProfileDetail>>> getProfileDetailsInBulk(List<String> emails) {
+        return supply(() -> dbClient.getProfileDetailsInBulk(emails));
+    }
+
+    public CompletableFuture<ResponseEntity<Boolean>> isProfilePresent(String email) {
+        return supply(() -> dbClient.isProfilePresent(email));
+    }
+
+    public CompletableFuture<ResponseEntity<Team>> getTeam(String name) {
+        return supply(() -> dbClient.getTeam(name));
+    }
+
+    public CompletableFuture<ResponseEntity<Event>> getEvent(String name) {
+        return supply(() -> dbClient.getEvent(name));
+    }
+
+    public CompletableFuture<ResponseEntity<Integer>> getEventId(String name) {
+        return supply(() -> dbClient.getEventId(name));
+    }
+
+    public CompletableFuture<ResponseEntity<Boolean>> isRegisteredInEvent(Integer eventId, String eventName, String email) {
+        return supply(() -> dbClient.isRegisteredInEvent(eventId, eventName, email));
+    }
+
+    public CompletableFuture<ResponseEntity<List<ProfileDetail>>> getTeamDetailsForEvent(Integer eventId, String eventName, String email) {
+        return supply(() -> dbClient.getTeamDetailsForEvent(eventId, eventName, email));
+    }
+
+    public CompletableFuture<ResponseEntity<Team>> getTeamWithEventIDAndEmail(Integer eventId, String eventName, String email) {
+        return supply(() -> dbClient.getTeamWithEventIDAndEmail(eventId, eventName, email));
+    }
+
+    public CompletableFuture<ResponseEntity<Integer>> remainingPlayersPerSlotCount(Integer eventId, String eventName, String email) {
+        return supply(() -> dbClient.remainingPlayersPerSlotCount(eventId, eventName, email));
+    }
+
+    public CompletableFuture<ResponseEntity<List<TeamWithCount>>> getTeamsWithCount(Integer eventId, String eventName) {
+        return supply(() -> dbClient.getTeamsWithCount(eventId, eventName));
+    }
+
+    public CompletableFuture<ResponseEntity<List<TeamWithID>>> getTeamsWithIDs(Integer eventId) {
+        return supply(() -> dbClient.getTeamsWithIDs(eventId));
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findUpcomingEvents(String email, Integer limit, String cursor, String view) {
+        return supply(() -> dbClient.findUpcomingEvents(email, limit, cursor, view));
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findActiveUpcomingEventsWrtInterestedGames(String email) {
+        return supply(() -> dbClient.findActiveUpcomingEventsWrtInterestedGames(email));
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findAllUpcomingOrganizerEvents(String email, Integer limit, String cursor, String view) {
+        return supply(() -> dbClient.findAllUpcomingOrganizerEvents(email, limit, cursor, view));
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findAllLeaderboardCompleteParticipantEvents(String email, Integer limit, String cursor, String view) {
+        return supply(() -> dbClient.findAllLeaderboardCompleteParticipantEvents(email, limit, cursor, view));
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findAllLeaderboardCompleteOrganizerEvents(String email, Integer limit, String cursor, String view) {
+        return supply(() -> dbClient.findAllLeaderboardCompleteOrganizerEvents(email, limit, cursor, view));
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findOnlyActiveOrganizerEvents(String email, Integer limit, String cursor, String view) {
+        return supply(() -> dbClient.findOnlyActiveOrganizerEvents(email, limit, cursor, view));
+    }
+
+    public CompletableFuture<ResponseEntity<Boolean>> isLeaderboardComplete(Integer eventId) {
+        return supply(() -> dbClient.isLeaderboardComplete(eventId));
+    }
+
+    public CompletableFuture<ResponseEntity<List<TeamWithPoints>>> findTeamsWithPoints(Integer eventId) {
+        return supply(() -> dbClient.findTeamsWithPoints(eventId));
+    }
+
+    public CompletableFuture<ResponseEntity<Leaderboard>> findLeaderBoard(Integer eventId, String email) {
+        return supply(() -> dbClient.findLeaderBoard(eventId, email));
+    }
+
+    public CompletableFuture<ResponseEntity<Viewer>> isViewer(String email, Integer eventId) {
+        return supply(() -> dbClient.isViewer(email, eventId));
+    }
+
+    public CompletableFuture<ResponseEntity<List<RegistrationStatus>>> getRegistrationStatuses(String email, List<Integer> eventIds) {
+        return supply(() -> dbClient.getRegistrationStatuses(email, eventIds));
+    }
+
+    public CompletableFuture<ResponseEntity<Partner>> findPartner(String email) {
+        return supply(() -> dbClient.findPartner(email));
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findEventsScheduledForToday() {
+        return supply(() -> dbClient.findEventsScheduledForToday());
+    }
+
+    public CompletableFuture<ResponseEntity<List<Game>>> findAllActiveGames() {
+        return supply(() -> dbClient.findAllActiveGames());
+    }
+
+    public CompletableFuture<ResponseEntity<List<InterestedGame>>> findAllInterestedGamesForUser(String email) {
+        return supply(() -> dbClient.findAllInterestedGamesForUser(email));
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+}
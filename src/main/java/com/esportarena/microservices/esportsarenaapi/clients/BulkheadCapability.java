@@ -0,0 +1,155 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import com.esportarena.microservices.esportsarenaapi.utilities.FeignRequestUtils;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Semaphore bulkheads, the call still runs on the caller's thread. They bound the load on DATABASE-SERVICE and the
+// documents in flight, not the callers: a request waiting for a documents permit keeps its Tomcat or
+// applicationTaskExecutor thread for up to max-wait-duration, and those pools are shared with every other endpoint
+public class BulkheadCapability implements Capability {
+
+    public static final String DOCUMENTS_BULKHEAD = "db-documents";
+    public static final String READS_BULKHEAD = "db-reads";
+    private static final String REJECTED_METRIC = "db.client.bulkhead.rejected";
+    private static final String WAIT_METRIC = "db.client.bulkhead.wait";
+
+    private final DBClientProperties.Bulkhead properties;
+    private final Bulkhead documentsBulkhead;
+    private final Bulkhead readsBulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadCapability(DBClientProperties.Bulkhead properties, BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.documentsBulkhead = bulkheadRegistry.bulkhead(DOCUMENTS_BULKHEAD);
+        this.readsBulkhead = bulkheadRegistry.bulkhead(READS_BULKHEAD);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            if(!properties.isEnabled()) {
+                return client.execute(request, options);
+            }
+            String method = FeignRequestUtils.methodName(request);
+            boolean isDocument = properties.getDocumentMethods().contains(method);
+            Bulkhead bulkhead = isDocument ? documentsBulkhead : readsBulkhead;
+            acquire(bulkhead, method);
+            Response response;
+            try {
+                response = client.execute(request, withReadTimeout(options, isDocument ? properties.getDocumentReadTimeout() : properties.getReadTimeout()));
+            } catch (IOException | RuntimeException | Error exception) {
+                bulkhead.onComplete();
+                throw exception;
+            }
+            if(!isDocument || response.body() == null) {
+                bulkhead.onComplete();
+                return response;
+            }
+            // Document bodies are streamed after execute returns. The permit is held until the decoder closes the body,
+            // so the stream is never copied into a second buffer
+            return response.toBuilder().body(new PermitBody(response.body(), bulkhead)).build();
+        };
+    }
+
+    private void acquire(Bulkhead bulkhead, String method) {
+        long start = System.nanoTime();
+        boolean isPermitted = bulkhead.tryAcquirePermission();
+        Timer.builder(WAIT_METRIC)
+                .tag("bulkhead", bulkhead.getName())
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if(!isPermitted) {
+            Counter.builder(REJECTED_METRIC)
+                    .tag("bulkhead", bulkhead.getName())
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .increment();
+            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+        }
+    }
+
+    private Request.Options withReadTimeout(Request.Options options, Duration readTimeout) {
+        return new Request.Options(options.connectTimeout(), options.connectTimeoutUnit(),
+                Deadline.capMillis(readTimeout.toMillis()), TimeUnit.MILLISECONDS, options.isFollowRedirects());
+    }
+
+    // Releases the permit once, on the first close of the body or of its stream
+    private static class PermitBody implements Response.Body {
+
+        private final Response.Body body;
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitBody(Response.Body body, Bulkhead bulkhead) {
+            this.body = body;
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public Integer length() {
+            return body.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return body.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new FilterInputStream(body.asInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        release();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new InputStreamReader(asInputStream(), charset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                body.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if(released.compareAndSet(false, true)) {
+                bulkhead.onComplete();
+            }
+        }
+    }
+}
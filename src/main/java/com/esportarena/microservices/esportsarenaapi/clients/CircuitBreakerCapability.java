@@ -0,0 +1,58 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.utilities.FeignRequestUtils;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+
+public class CircuitBreakerCapability implements Capability {
+
+    public static final String CONFIG_NAME = "db-client";
+
+    private final DBClientProperties.CircuitBreaker properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryBudget retryBudget;
+
+    public CircuitBreakerCapability(DBClientProperties.CircuitBreaker properties, CircuitBreakerRegistry circuitBreakerRegistry,
+                                    RetryBudget retryBudget) {
+        this.properties = properties;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            retryBudget.onCall();
+            if(!properties.isEnabled()) {
+                return client.execute(request, options);
+            }
+            String method = FeignRequestUtils.methodName(request);
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CONFIG_NAME + "-" + method, CONFIG_NAME);
+            circuitBreaker.acquirePermission();
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                Response response = client.execute(request, options);
+                long duration = circuitBreaker.getCurrentTimestamp() - start;
+                if(response.status() >= 500) {
+                    circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                            HttpServerErrorException.create(HttpStatusCode.valueOf(response.status()), method, HttpHeaders.EMPTY, null, null));
+                } else {
+                    circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                }
+                return response;
+            } catch (IOException | RuntimeException exception) {
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), exception);
+                throw exception;
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class CoalescingCapability implements Capability {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingCapability.class);
+    private static final String COALESCED_METRIC = "db.client.requests.coalesced";
+
+    private final DBClientProperties.Coalescing properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<CallKey, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+    public CoalescingCapability(DBClientProperties.Coalescing properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            InvocationHandler delegate = invocationHandlerFactory.create(target, dispatch);
+            return (proxy, method, args) -> {
+                if (!isCoalesced(method)) {
+                    return delegate.invoke(proxy, method, args);
+                }
+                CallKey key = new CallKey(target.name(), method, args);
+                CompletableFuture<Object> call = new CompletableFuture<>();
+                CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+                if (inFlightCall != null) {
+                    Counter.builder(COALESCED_METRIC)
+                            .tag("client", target.name())
+                            .tag("method", method.getName())
+                            .register(meterRegistry)
+                            .increment();
+                    LOGGER.debug("Joined in-flight call for {}", key);
+                    return await(inFlightCall);
+                }
+                try {
+                    Object result = delegate.invoke(proxy, method, args);
+                    inFlightCalls.remove(key, call);
+                    call.complete(result);
+                    return result;
+                } catch (Throwable throwable) {
+                    inFlightCalls.remove(key, call);
+                    call.completeExceptionally(throwable);
+                    throw throwable;
+                }
+            };
+        };
+    }
+
+    private boolean isCoalesced(Method method) {
+        return properties.isEnabled()
+                && method.getDeclaringClass() != Object.class
+                && properties.getMethods().contains(method.getName());
+    }
+
+    private Object await(CompletableFuture<Object> inFlightCall) throws Throwable {
+        try {
+            return inFlightCall.join();
+        } catch (CompletionException exception) {
+            throw exception.getCause() != null ? exception.getCause() : exception;
+        }
+    }
+
+    private static final class CallKey {
+
+        private final String client;
+        private final Method method;
+        private final List<Object> args;
+
+        private CallKey(String client, Method method, Object[] args) {
+            this.client = client;
+            this.method = method;
+            this.args = args == null ? List.of() : Arrays.asList(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CallKey callKey = (CallKey) o;
+            return Objects.equals(client, callKey.client) && Objects.equals(method, callKey.method) && Objects.equals(args, callKey.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(client, method, args);
+        }
+
+        @Override
+        public String toString() {
+            return "CallKey{" +
+                    "client='" + client + '\'' +
+                    ", method=" + method.getName() +
+                    ", args=" + args +
+                    '}';
+        }
+    }
+}
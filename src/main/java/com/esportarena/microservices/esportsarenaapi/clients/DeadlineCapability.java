@@ -0,0 +1,51 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.exceptions.DeadlineExceededException;
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import com.esportarena.microservices.esportsarenaapi.utilities.FeignRequestUtils;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineCapability implements Capability {
+
+    public static final String ABANDONED_METRIC = "request.deadline.abandoned";
+
+    private final DBClientProperties.Deadline properties;
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineCapability(DBClientProperties.Deadline properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Deadline deadline = Deadline.current();
+            if(!properties.isEnabled() || deadline == null) {
+                return client.execute(request, options);
+            }
+            String method = FeignRequestUtils.methodName(request);
+            if(deadline.isExpired()) {
+                Counter.builder(ABANDONED_METRIC)
+                        .tag("stage", "call")
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .increment();
+                throw new DeadlineExceededException("Deadline exceeded before calling " + method);
+            }
+            Request.Options remainingOptions = new Request.Options(
+                    Deadline.capMillis(options.connectTimeoutMillis()), TimeUnit.MILLISECONDS,
+                    Deadline.capMillis(options.readTimeoutMillis()), TimeUnit.MILLISECONDS,
+                    options.isFollowRedirects());
+            Request propagated = FeignRequestUtils.withHeader(request, properties.getHeader(), String.valueOf(deadline.remainingMillis()));
+            return client.execute(propagated, remainingOptions);
+        };
+    }
+}
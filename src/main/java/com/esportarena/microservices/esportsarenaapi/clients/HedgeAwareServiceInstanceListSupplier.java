@@ -0,0 +1,44 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Objects;
+
+public class HedgeAwareServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final HedgedInstanceTracker hedgedInstanceTracker;
+
+    public HedgeAwareServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, HedgedInstanceTracker hedgedInstanceTracker) {
+        super(delegate);
+        this.hedgedInstanceTracker = hedgedInstanceTracker;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return delegate.get();
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get(Request request) {
+        if(!(request.getContext() instanceof RequestDataContext context)) {
+            return delegate.get(request);
+        }
+        return delegate.get(request).map(instances -> withoutPrimary(instances, hedgedInstanceTracker.primaryInstance(context)));
+    }
+
+    private List<ServiceInstance> withoutPrimary(List<ServiceInstance> instances, ServiceInstance primary) {
+        if(primary == null || instances.size() < 2) {
+            return instances;
+        }
+        List<ServiceInstance> others = instances.stream()
+                .filter(instance -> !(Objects.equals(instance.getHost(), primary.getHost()) && instance.getPort() == primary.getPort()))
+                .toList();
+        return others.isEmpty() ? instances : others;
+    }
+}
@@ -0,0 +1,59 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Remembers which instance served the primary call of a hedge so the hedge can be sent somewhere else
+public class HedgedInstanceTracker implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    public static final String HEDGE_ID_HEADER = "X-Hedge-Id";
+
+    private final ConcurrentMap<String, ServiceInstance> primaryInstances = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        String hedgeId = hedgeId(request.getContext());
+        if(hedgeId != null && lbResponse.hasServer()) {
+            primaryInstances.putIfAbsent(hedgeId, lbResponse.getServer());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+    }
+
+    public ServiceInstance primaryInstance(RequestDataContext context) {
+        String hedgeId = hedgeId(context);
+        return hedgeId == null ? null : primaryInstances.get(hedgeId);
+    }
+
+    public void release(String hedgeId) {
+        primaryInstances.remove(hedgeId);
+    }
+
+    private String hedgeId(RequestDataContext context) {
+        if(context == null || context.getClientRequest() == null || context.getClientRequest().getHeaders() == null) {
+            return null;
+        }
+        return context.getClientRequest().getHeaders().getFirst(HEDGE_ID_HEADER);
+    }
+}
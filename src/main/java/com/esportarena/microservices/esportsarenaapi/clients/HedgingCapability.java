@@ -0,0 +1,193 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.utilities.FeignRequestUtils;
+import com.esportarena.microservices.esportsarenaapi.utilities.LatencyTracker;
+import com.esportarena.microservices.esportsarenaapi.utilities.RequestBudget;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HedgingCapability implements Capability {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HedgingCapability.class);
+    private static final String HEDGES_METRIC = "db.client.hedge.sent";
+    private static final String HEDGE_WINS_METRIC = "db.client.hedge.wins";
+    private static final String HEDGES_SKIPPED_METRIC = "db.client.hedge.skipped";
+    private static final int LATENCY_SAMPLES = 256;
+
+    private final DBClientProperties.Hedging properties;
+    private final HedgedInstanceTracker hedgedInstanceTracker;
+    private final AsyncTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final RequestBudget budget;
+    // Bounds the calls in flight on the executor, which on virtual threads has no pool size of its own
+    private final Semaphore permits;
+    private final ConcurrentMap<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+
+    public HedgingCapability(DBClientProperties.Hedging properties, HedgedInstanceTracker hedgedInstanceTracker,
+                             AsyncTaskExecutor executor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hedgedInstanceTracker = hedgedInstanceTracker;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.budget = new RequestBudget(properties.getBudgetRatio(), properties.getBudgetMaxTokens());
+        this.permits = new Semaphore(Math.max(1, properties.getPoolSize()));
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            String method = FeignRequestUtils.methodName(request);
+            if(!isHedged(request, method)) {
+                return client.execute(request, options);
+            }
+            budget.deposit();
+            String hedgeId = UUID.randomUUID().toString();
+            Request hedgedRequest = FeignRequestUtils.withHeader(request, HedgedInstanceTracker.HEDGE_ID_HEADER, hedgeId);
+            LatencyTracker latencyTracker = latencies.computeIfAbsent(method, key -> new LatencyTracker(LATENCY_SAMPLES));
+            long start = System.nanoTime();
+            CompletableFuture<Response> primary;
+            try {
+                primary = execute(client, hedgedRequest, options);
+            } catch (RejectedExecutionException exception) {
+                // Every hedge thread is busy, the call goes out once on the caller thread
+                hedgedInstanceTracker.release(hedgeId);
+                counter(HEDGES_SKIPPED_METRIC, method).increment();
+                return client.execute(request, options);
+            }
+            try {
+                Response response;
+                try {
+                    response = primary.get(hedgeDelay(latencyTracker), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException exception) {
+                    response = hedge(client, hedgedRequest, options, method, primary);
+                }
+                latencyTracker.record(System.nanoTime() - start);
+                return response;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for " + method, exception);
+            } catch (ExecutionException | CompletionException exception) {
+                throw rethrow(exception.getCause() != null ? exception.getCause() : exception);
+            } finally {
+                hedgedInstanceTracker.release(hedgeId);
+            }
+        };
+    }
+
+    private Response hedge(Client client, Request request, Request.Options options, String method,
+                           CompletableFuture<Response> primary) throws InterruptedException, ExecutionException {
+        if(!budget.tryWithdraw()) {
+            counter(HEDGES_SKIPPED_METRIC, method).increment();
+            return primary.get();
+        }
+        CompletableFuture<Response> hedge;
+        try {
+            hedge = execute(client, request, options);
+        } catch (RejectedExecutionException exception) {
+            counter(HEDGES_SKIPPED_METRIC, method).increment();
+            return primary.get();
+        }
+        counter(HEDGES_METRIC, method).increment();
+        LOGGER.debug("Hedging {} after primary call did not answer in time", method);
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        primary.whenComplete((response, throwable) -> offer(result, pending, response, throwable, false, method));
+        hedge.whenComplete((response, throwable) -> offer(result, pending, response, throwable, true, method));
+        return result.get();
+    }
+
+    // First usable answer wins, a 5xx or an error only wins when the other call failed as well
+    private void offer(CompletableFuture<Response> result, AtomicInteger pending, Response response, Throwable throwable,
+                       boolean isHedge, String method) {
+        boolean isUsable = throwable == null && response.status() < 500;
+        boolean isLast = pending.decrementAndGet() == 0;
+        boolean isWinner = false;
+        if(isUsable || isLast) {
+            isWinner = throwable == null ? result.complete(response) : result.completeExceptionally(throwable);
+        }
+        if(isWinner && isHedge) {
+            counter(HEDGE_WINS_METRIC, method).increment();
+        }
+        if(!isWinner && response != null) {
+            response.close();
+        }
+    }
+
+    // Rejects instead of waiting when every permit is taken, the callers fall back to an unhedged call
+    private CompletableFuture<Response> execute(Client client, Request request, Request.Options options) {
+        if(!permits.tryAcquire()) {
+            throw new RejectedExecutionException("All " + properties.getPoolSize() + " hedging permits are in use");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return client.execute(request, options);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                } finally {
+                    permits.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    private long hedgeDelay(LatencyTracker latencyTracker) {
+        long minDelay = properties.getMinDelay().toNanos();
+        long maxDelay = properties.getMaxDelay().toNanos();
+        if(latencyTracker.count() < properties.getMinSamples()) {
+            return maxDelay;
+        }
+        return Math.max(minDelay, Math.min(maxDelay, latencyTracker.percentile(properties.getPercentile())));
+    }
+
+    private boolean isHedged(Request request, String method) {
+        return properties.isEnabled()
+                && request.httpMethod() == Request.HttpMethod.GET
+                && properties.getMethods().contains(method);
+    }
+
+    private Counter counter(String name, String method) {
+        return Counter.builder(name).tag("method", method).register(meterRegistry);
+    }
+
+    private IOException rethrow(Throwable throwable) {
+        if(throwable instanceof UncheckedIOException exception) {
+            return exception.getCause();
+        }
+        if(throwable instanceof IOException exception) {
+            return exception;
+        }
+        if(throwable instanceof RuntimeException exception) {
+            throw exception;
+        }
+        if(throwable instanceof Error error) {
+            throw error;
+        }
+        return new IOException(throwable);
+    }
+}
@@ -0,0 +1,136 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// Per instance load seen by this service: decaying average latency, calls in flight and a short quarantine after errors
+public class InstanceStatistics implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstanceStatistics.class);
+
+    private final DBClientProperties.LoadBalancer properties;
+    private final ConcurrentMap<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    public InstanceStatistics(DBClientProperties.LoadBalancer properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if(!lbResponse.hasServer()) {
+            return;
+        }
+        request.getContext().setRequestStartTime(System.nanoTime());
+        statistics(lbResponse.getServer()).outstanding.incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if(lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        // Pruned while the call was in flight, the instance has left the registry
+        Statistics instanceStatistics = statistics.get(key(lbResponse.getServer()));
+        if(instanceStatistics == null) {
+            return;
+        }
+        instanceStatistics.outstanding.decrementAndGet();
+        long now = System.nanoTime();
+        long startTime = completionContext.getLoadBalancerRequest().getContext().getRequestStartTime();
+        if(startTime > 0) {
+            instanceStatistics.observe(now - startTime, now, properties.getDecayTime().toNanos());
+        }
+        if(isFailure(completionContext)) {
+            instanceStatistics.quarantinedUntil = now + properties.getQuarantine().toNanos();
+            LOGGER.warn("Quarantined instance {} for {}", key(lbResponse.getServer()), properties.getQuarantine());
+        }
+    }
+
+    // Drops instances that are no longer in the registry, entries with calls in flight stay until those complete
+    public void retain(Collection<ServiceInstance> instances) {
+        Set<String> keys = instances.stream().map(this::key).collect(Collectors.toSet());
+        statistics.entrySet().removeIf(entry -> !keys.contains(entry.getKey()) && entry.getValue().outstanding.get() == 0);
+    }
+
+    public boolean isQuarantined(ServiceInstance instance) {
+        Statistics instanceStatistics = statistics.get(key(instance));
+        return instanceStatistics != null && instanceStatistics.quarantinedUntil - System.nanoTime() > 0;
+    }
+
+    // Expected wait on the instance: average latency scaled by the queue we would join, unseen instances are tried first
+    public double cost(ServiceInstance instance) {
+        Statistics instanceStatistics = statistics.get(key(instance));
+        if(instanceStatistics == null) {
+            return 0;
+        }
+        return instanceStatistics.latency * (instanceStatistics.outstanding.get() + 1);
+    }
+
+    private boolean isFailure(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        if(completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        ResponseData responseData = completionContext.getClientResponse();
+        return responseData != null && responseData.getHttpStatus() != null && responseData.getHttpStatus().is5xxServerError();
+    }
+
+    private Statistics statistics(ServiceInstance instance) {
+        return statistics.computeIfAbsent(key(instance), key -> new Statistics());
+    }
+
+    private String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static final class Statistics {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile double latency;
+        private volatile long quarantinedUntil = System.nanoTime();
+        private long lastObserved;
+
+        private void observe(long sample, long now, long decayTime) {
+            lock.lock();
+            try {
+                if(lastObserved == 0) {
+                    latency = sample;
+                } else {
+                    double weight = Math.exp(-(double) (now - lastObserved) / decayTime);
+                    latency = latency * weight + sample * (1 - weight);
+                }
+                lastObserved = now;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
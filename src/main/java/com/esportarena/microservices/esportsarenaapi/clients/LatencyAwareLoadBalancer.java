@@ -0,0 +1,57 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Power of two choices: sample two healthy instances and send the call to the one with the lower expected wait
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final InstanceStatistics instanceStatistics;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                    InstanceStatistics instanceStatistics) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.instanceStatistics = instanceStatistics;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if(instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        instanceStatistics.retain(instances);
+        List<ServiceInstance> healthyInstances = instances.stream()
+                .filter(instance -> !instanceStatistics.isQuarantined(instance))
+                .toList();
+        List<ServiceInstance> candidates = healthyInstances.isEmpty() ? instances : healthyInstances;
+        if(candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if(second >= first) {
+            second++;
+        }
+        ServiceInstance firstInstance = candidates.get(first);
+        ServiceInstance secondInstance = candidates.get(second);
+        return new DefaultResponse(instanceStatistics.cost(firstInstance) <= instanceStatistics.cost(secondInstance) ? firstInstance : secondInstance);
+    }
+}
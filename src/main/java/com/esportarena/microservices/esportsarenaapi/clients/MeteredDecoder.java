@@ -0,0 +1,50 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.FeignRequestUtils;
+import feign.FeignException;
+import feign.Response;
+import feign.codec.Decoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+public class MeteredDecoder implements Decoder {
+
+    private final Decoder delegate;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredDecoder(Decoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException, FeignException {
+        String method = FeignRequestUtils.methodName(response.request());
+        String format = contentType(response);
+        // The response size is recorded on the wire by WireSizeInterceptor, the body here may already be decompressed
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return delegate.decode(response, type);
+        } finally {
+            sample.stop(Timer.builder("db.client.response.decode")
+                    .tag("method", method)
+                    .tag("format", format)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String contentType(Response response) {
+        Collection<String> values = response.headers().get(HttpHeaders.CONTENT_TYPE);
+        if(values == null || values.isEmpty()) {
+            return FeignRequestUtils.UNKNOWN;
+        }
+        String contentType = values.iterator().next();
+        int parameters = contentType.indexOf(';');
+        return parameters < 0 ? contentType : contentType.substring(0, parameters);
+    }
+}
@@ -0,0 +1,238 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.configurations.ReactiveClientConfig;
+import com.esportarena.microservices.esportsarenaapi.exceptions.DeadlineExceededException;
+import com.esportarena.microservices.esportsarenaapi.models.*;
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// Non-blocking counterpart of TheJackFolioDBClient for the highest fan-out reads, served by the reactor-netty event loop
+@Component
+public class ReactiveTheJackFolioDBClient {
+
+    // Without a wait, a full bulkhead never parks the thread that subscribes, which can be a reactor thread on a retry
+    private static final String READS_BULKHEAD = "db-reactive-reads";
+    private static final String STREAMS_BULKHEAD = "db-streams";
+
+    @Autowired
+    @Qualifier(ReactiveClientConfig.DB_WEB_CLIENT)
+    private WebClient webClient;
+    @Autowired
+    private DBClientProperties properties;
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+    @Autowired
+    private RetryBudget retryBudget;
+
+    public Mono<ResponseEntity<ProfileDetail>> getProfileDetails(String email) {
+        return get("getProfileDetails", webClient.get().uri("/clients/get-profile/{email}", email), new ParameterizedTypeReference<ProfileDetail>() {});
+    }
+
+    public Mono<ResponseEntity<List<TeamWithCount>>> getTeamsWithCount(Integer eventId, String eventName) {
+        return get("getTeamsWithCount", webClient.get().uri(uriBuilder -> uriBuilder.path("/events/get-teams-with-count")
+                .queryParam("eventId", eventId)
+                .queryParam("eventName", eventName)
+                .build()), new ParameterizedTypeReference<List<TeamWithCount>>() {});
+    }
+
+    public Mono<ResponseEntity<List<Event>>> findUpcomingEvents(String email, Integer limit, String cursor, String view) {
+        return get("findUpcomingEvents", webClient.get().uri(uriBuilder -> uriBuilder.path("/events/get-upcoming-events/{email}")
+                .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .queryParamIfPresent("view", Optional.ofNullable(view))
+                .build(email)), new ParameterizedTypeReference<List<Event>>() {});
+    }
+
+    public Mono<ResponseEntity<List<TeamWithPoints>>> findTeamsWithPoints(Integer eventId) {
+        return get("findTeamsWithPoints", webClient.get().uri("/events/get-teams-with-points/{eventId}", eventId), new ParameterizedTypeReference<List<TeamWithPoints>>() {});
+    }
+
+    public Mono<ResponseEntity<Leaderboard>> findLeaderBoard(Integer eventId, String email) {
+        return get("findLeaderBoard", webClient.get().uri(uriBuilder -> uriBuilder.path("/events/get-leaderboard/{email}")
+                .queryParam("eventId", eventId)
+                .build(email)), new ParameterizedTypeReference<Leaderboard>() {});
+    }
+
+    public Flux<Event> streamUpcomingEvents(String email) {
+        return stream(webClient.get().uri("/events/get-upcoming-events/{email}", email), Event.class);
+    }
+
+    public Flux<Event> streamAllUpcomingOrganizerEvents(String email) {
+        return stream(webClient.get().uri("/events/get-upcoming-organizer-events/{email}", email), Event.class);
+    }
+
+    public Flux<Event> streamAllLeaderboardCompleteParticipantEvents(String email) {
+        return stream(webClient.get().uri("/events/get-completed-events-participant/{email}", email), Event.class);
+    }
+
+    public Flux<Event> streamAllLeaderboardCompleteOrganizerEvents(String email) {
+        return stream(webClient.get().uri("/events/get-completed-events-organizer/{email}", email), Event.class);
+    }
+
+    public Flux<Event> streamOnlyActiveOrganizerEvents(String email) {
+        return stream(webClient.get().uri("/events/get-only-active-events-organizer/{email}", email), Event.class);
+    }
+
+    public Flux<TeamWithCount> streamTeamsWithCount(Integer eventId, String eventName) {
+        return stream(webClient.get().uri(uriBuilder -> uriBuilder.path("/events/get-teams-with-count")
+                .queryParam("eventId", eventId)
+                .queryParam("eventName", eventName)
+                .build()), TeamWithCount.class);
+    }
+
+    public Flux<TeamWithPoints> streamTeamsWithPoints(Integer eventId) {
+        return stream(webClient.get().uri("/events/get-teams-with-points/{eventId}", eventId), TeamWithPoints.class);
+    }
+
+    // Same db-client-<method> circuit breakers as the Feign calls. The 4xx WebClientResponseException types are ignored
+    // by the db-client config, a bad request says nothing about the health of DATABASE-SERVICE
+    private <T> Mono<ResponseEntity<T>> get(String method, WebClient.RequestHeadersSpec<?> request, ParameterizedTypeReference<T> type) {
+        Mono<ResponseEntity<T>> call = withDeadline(request, type);
+        if(properties.getCircuitBreaker().isEnabled()) {
+            call = call.transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(CircuitBreakerCapability.CONFIG_NAME + "-" + method,
+                    CircuitBreakerCapability.CONFIG_NAME)));
+        }
+        if(properties.getBulkhead().isEnabled()) {
+            call = call.transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(READS_BULKHEAD)));
+        }
+        Mono<ResponseEntity<T>> guarded = call;
+        // Every subscription is a call, so retries earn the budget the same way the Feign calls do
+        return withRetryContext(Mono.defer(() -> {
+            retryBudget.onCall();
+            return guarded;
+        }));
+    }
+
+    // The @Retry operator and the fallback above this call run on whichever thread delivers its result. Delivering
+    // every signal with the caller's RetryContext bound lets them record into and read the request's context
+    private static <T> Mono<T> withRetryContext(Mono<T> call) {
+        RetryContext context = RetryContext.current();
+        return call.transform(Operators.<T, T>lift((scannable, subscriber) -> new RetryContextSubscriber<>(subscriber, context)));
+    }
+
+    // The deadline is captured on the calling thread, the event loop thread that completes the call does not carry it.
+    // What is left of it is read again on every subscription, a retry gets the budget that remains by then
+    private <T> Mono<ResponseEntity<T>> withDeadline(WebClient.RequestHeadersSpec<?> request, ParameterizedTypeReference<T> type) {
+        Deadline deadline = Deadline.current();
+        if(deadline == null || !properties.getDeadline().isEnabled()) {
+            return request.retrieve().toEntity(type);
+        }
+        return Mono.defer(() -> {
+            if(deadline.isExpired()) {
+                return Mono.error(new DeadlineExceededException("Deadline exceeded before calling DATABASE-SERVICE"));
+            }
+            long remainingMillis = deadline.remainingMillis();
+            return withRemaining(request, remainingMillis)
+                    .retrieve()
+                    .toEntity(type)
+                    .timeout(Duration.ofMillis(Math.max(1, remainingMillis)),
+                            Mono.error(new DeadlineExceededException("Deadline exceeded while calling DATABASE-SERVICE")));
+        });
+    }
+
+    // A stream only takes a bulkhead permit. The circuit breaker would time the whole export as one call
+    // and open on slow calls that are simply long
+    private <T> Flux<T> stream(WebClient.RequestHeadersSpec<?> request, Class<T> type) {
+        Flux<T> call = withElementDeadline(request, type);
+        return properties.getBulkhead().isEnabled() ? call.transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(STREAMS_BULKHEAD))) : call;
+    }
+
+    // The JSON array is decoded element by element as it arrives. Exports can outlive the request budget,
+    // so the deadline bounds the wait for each element instead of the whole stream
+    private <T> Flux<T> withElementDeadline(WebClient.RequestHeadersSpec<?> request, Class<T> type) {
+        Deadline deadline = Deadline.current();
+        if(deadline == null || !properties.getDeadline().isEnabled()) {
+            return request.retrieve().bodyToFlux(type);
+        }
+        return Flux.defer(() -> {
+            if(deadline.isExpired()) {
+                return Flux.error(new DeadlineExceededException("Deadline exceeded before calling DATABASE-SERVICE"));
+            }
+            long remainingMillis = deadline.remainingMillis();
+            return withRemaining(request, remainingMillis)
+                    .retrieve()
+                    .bodyToFlux(type)
+                    .timeout(Duration.ofMillis(Math.max(1, remainingMillis)),
+                            Flux.error(new DeadlineExceededException("Deadline exceeded while streaming from DATABASE-SERVICE")));
+        });
+    }
+
+    private static class RetryContextSubscriber<T> implements CoreSubscriber<T> {
+
+        private final CoreSubscriber<? super T> actual;
+        private final RetryContext context;
+
+        private RetryContextSubscriber(CoreSubscriber<? super T> actual, RetryContext context) {
+            this.actual = actual;
+            this.context = context;
+        }
+
+        @Override
+        public Context currentContext() {
+            return actual.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            actual.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T value) {
+            RetryContext previous = RetryContext.bind(context);
+            try {
+                actual.onNext(value);
+            } finally {
+                RetryContext.bind(previous);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            RetryContext previous = RetryContext.bind(context);
+            try {
+                actual.onError(throwable);
+            } finally {
+                RetryContext.bind(previous);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            RetryContext previous = RetryContext.bind(context);
+            try {
+                actual.onComplete();
+            } finally {
+                RetryContext.bind(previous);
+            }
+        }
+    }
+
+    // Set, not added, the same spec is sent again on every resubscription
+    private WebClient.RequestHeadersSpec<?> withRemaining(WebClient.RequestHeadersSpec<?> request, long remainingMillis) {
+        return request.headers(headers -> headers.set(properties.getDeadline().getHeader(), String.valueOf(remainingMillis)));
+    }
+}
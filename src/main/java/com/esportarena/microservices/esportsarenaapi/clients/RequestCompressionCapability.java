@@ -0,0 +1,75 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.utilities.FeignRequestUtils;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+public class RequestCompressionCapability implements Capability {
+
+    private static final String GZIP = "gzip";
+    private static final String IDENTITY = "identity";
+
+    private final DBClientProperties.Compression properties;
+    private final MeterRegistry meterRegistry;
+
+    public RequestCompressionCapability(DBClientProperties.Compression properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Request outgoing = shouldCompress(request) ? compress(request) : request;
+            if(outgoing.body() != null) {
+                DistributionSummary.builder("db.client.request.size")
+                        .baseUnit("bytes")
+                        .tag("method", FeignRequestUtils.methodName(request))
+                        .tag("encoding", outgoing == request ? IDENTITY : GZIP)
+                        .register(meterRegistry)
+                        .record(outgoing.body().length);
+            }
+            return client.execute(outgoing, options);
+        };
+    }
+
+    private boolean shouldCompress(Request request) {
+        if(!properties.isRequestEnabled() || request.body() == null || request.body().length < properties.getMinRequestSize()
+                || FeignRequestUtils.header(request, HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        String contentType = FeignRequestUtils.header(request, HttpHeaders.CONTENT_TYPE);
+        if(contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return properties.getMimeTypes().contains(mediaType.getType() + "/" + mediaType.getSubtype());
+    }
+
+    private Request compress(Request request) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(request.body().length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(request.body());
+        }
+        byte[] body = bytes.toByteArray();
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.headers());
+        headers.put(HttpHeaders.CONTENT_ENCODING, List.of(GZIP));
+        headers.put(HttpHeaders.CONTENT_LENGTH, List.of(String.valueOf(body.length)));
+        return Request.create(request.httpMethod(), request.url(), headers, body, request.charset(), request.requestTemplate());
+    }
+}
@@ -0,0 +1,46 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import com.esportarena.microservices.esportsarenaapi.utilities.RequestBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Process wide allowance for retries, every call to DATABASE-SERVICE earns a fraction of a retry
+public class RetryBudget {
+
+    public static final String BEAN_NAME = "retryBudget";
+
+    private final RequestBudget budget;
+    private final Counter exhausted;
+    private final Counter abandoned;
+
+    public RetryBudget(DBClientProperties.RetryBudget properties, MeterRegistry meterRegistry) {
+        this.budget = new RequestBudget(properties.getRatio(), properties.getMaxTokens());
+        this.exhausted = Counter.builder("db.client.retry.budget.exhausted").register(meterRegistry);
+        this.abandoned = Counter.builder(DeadlineCapability.ABANDONED_METRIC).tag("stage", "retry").tag("method", "any").register(meterRegistry);
+        Gauge.builder("db.client.retry.budget.available", budget, RequestBudget::available).register(meterRegistry);
+    }
+
+    public void onCall() {
+        budget.deposit();
+    }
+
+    public boolean canRetry() {
+        if(Deadline.isCurrentExpired()) {
+            abandoned.increment();
+            return false;
+        }
+        if(budget.available() >= 1) {
+            return true;
+        }
+        exhausted.increment();
+        return false;
+    }
+
+    // Concurrent retries may all pass canRetry on the last token, the balance then simply stays empty a little longer
+    public void onRetry() {
+        budget.tryWithdraw();
+    }
+}
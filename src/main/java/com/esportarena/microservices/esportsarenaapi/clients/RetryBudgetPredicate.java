@@ -0,0 +1,34 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.exceptions.DeadlineExceededException;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+// Set on every retry instance by RetryBudgetCustomizerRegistrar. It only decides, the budget token is withdrawn
+// once Resilience4j actually schedules the retry, so the last attempt and non retryable failures cost nothing
+public class RetryBudgetPredicate implements Predicate<Throwable> {
+
+    private final RetryBudget retryBudget;
+
+    public RetryBudgetPredicate(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public boolean test(Throwable throwable) {
+        return isRetryable(FutureUtils.unwrap(throwable)) && retryBudget.canRetry();
+    }
+
+    private boolean isRetryable(Throwable throwable) {
+        return !(throwable instanceof FeignException.FeignClientException
+                || throwable instanceof WebClientResponseException exception && exception.getStatusCode().is4xxClientError()
+                || throwable instanceof CallNotPermittedException
+                || throwable instanceof BulkheadFullException
+                || throwable instanceof DeadlineExceededException);
+    }
+}
@@ -1,6 +1,11 @@
 package com.esportarena.microservices.esportsarenaapi.clients;
 
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientFeignConfiguration;
 import com.esportarena.microservices.esportsarenaapi.models.*;
+import com.esportarena.microservices.esportsarenaapi.utilities.CacheNames;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,7 +16,7 @@ import java.util.List;
 
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
-@FeignClient(name = "DATABASE-SERVICE")
+@FeignClient(name = "DATABASE-SERVICE", configuration = DBClientFeignConfiguration.class)
 public interface TheJackFolioDBClient {
 
     @PostMapping("/clients/save-profile")
@@ -20,22 +25,37 @@ public interface TheJackFolioDBClient {
     @GetMapping("/clients/get-profile/{email}")
     public ResponseEntity<ProfileDetail> getProfileDetails(@PathVariable String email);
 
+    @PostMapping("/clients/get-profiles")
+    public ResponseEntity<List<ProfileDetail>> getProfileDetailsInBulk(@RequestBody List<String> emails);
+
     @GetMapping("/clients/is-profile-present/{email}")
     public ResponseEntity<Boolean> isProfilePresent(@PathVariable String email);
 
     @PostMapping("/events/save-team")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TEAMS, key = "#team.name", condition = "#team != null"),
+            @CacheEvict(cacheNames = CacheNames.TEAMS_WITH_COUNT, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.EVENTS, allEntries = true, condition = "#isCreate")
+    })
     public ResponseEntity<Team> saveOrUpdateTeam(@RequestBody Team team, @RequestParam boolean isCreate, @RequestParam boolean isUpdate);
 
     @GetMapping("/events/get-team/{name}")
+    @Cacheable(cacheNames = CacheNames.TEAMS, key = "#name", unless = CacheNames.UNLESS_FAILED_WITH_MESSAGE)
     public ResponseEntity<Team> getTeam(@PathVariable String name);
 
     @PostMapping("/events/save-event")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.EVENTS, key = "#event.name", condition = "#event != null"),
+            @CacheEvict(cacheNames = CacheNames.EVENT_IDS, key = "#event.name", condition = "#event != null")
+    })
     public ResponseEntity<Event> saveOrUpdateEvent(@RequestBody Event event, @RequestParam boolean isCreate, @RequestParam boolean isUpdate);
 
     @GetMapping("/events/get-event/{name}")
+    @Cacheable(cacheNames = CacheNames.EVENTS, key = "#name", unless = CacheNames.UNLESS_FAILED_WITH_MESSAGE)
     public ResponseEntity<Event> getEvent(@PathVariable String name);
 
     @GetMapping("/events/get-event-id/{name}")
+    @Cacheable(cacheNames = CacheNames.EVENT_IDS, key = "#name", unless = CacheNames.UNLESS_FAILED)
     public ResponseEntity<Integer> getEventId(@PathVariable String name);
 
     @GetMapping("/events/is-registered")
@@ -51,30 +71,35 @@ public interface TheJackFolioDBClient {
     public ResponseEntity<Integer> remainingPlayersPerSlotCount(@RequestParam Integer eventId, @RequestParam String eventName, @RequestParam String email);
 
     @GetMapping("/events/get-teams-with-count")
+    @Cacheable(cacheNames = CacheNames.TEAMS_WITH_COUNT, key = "#eventId + ':' + #eventName", unless = CacheNames.UNLESS_FAILED)
     public ResponseEntity<List<TeamWithCount>> getTeamsWithCount(@RequestParam Integer eventId, @RequestParam String eventName);
 
     @GetMapping("/events/get-teams-with-id")
     public ResponseEntity<List<TeamWithID>> getTeamsWithIDs(@RequestParam Integer eventId);
 
     @GetMapping("/events/get-upcoming-events/{email}")
-    public ResponseEntity<List<Event>> findUpcomingEvents(@PathVariable String email);
+    public ResponseEntity<List<Event>> findUpcomingEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view);
 
     @GetMapping("/events/get-upcoming-events-interested-games/{email}")
     public ResponseEntity<List<Event>> findActiveUpcomingEventsWrtInterestedGames(@PathVariable String email);
 
     @GetMapping("/events/get-upcoming-organizer-events/{email}")
-    public ResponseEntity<List<Event>> findAllUpcomingOrganizerEvents(@PathVariable String email);
+    public ResponseEntity<List<Event>> findAllUpcomingOrganizerEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view);
 
     @GetMapping("/events/get-completed-events-participant/{email}")
-    public ResponseEntity<List<Event>> findAllLeaderboardCompleteParticipantEvents(@PathVariable String email);
+    public ResponseEntity<List<Event>> findAllLeaderboardCompleteParticipantEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view);
 
     @GetMapping("/events/get-completed-events-organizer/{email}")
-    public ResponseEntity<List<Event>> findAllLeaderboardCompleteOrganizerEvents(@PathVariable String email);
+    public ResponseEntity<List<Event>> findAllLeaderboardCompleteOrganizerEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view);
 
     @GetMapping("/events/get-only-active-events-organizer/{email}")
-    public ResponseEntity<List<Event>> findOnlyActiveOrganizerEvents(@PathVariable String email);
+    public ResponseEntity<List<Event>> findOnlyActiveOrganizerEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view);
 
     @PostMapping("/events/update-team-status")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TEAMS, key = "#teamName"),
+            @CacheEvict(cacheNames = CacheNames.TEAMS_WITH_COUNT, allEntries = true)
+    })
     public ResponseEntity<String> updateTeamStatus(@RequestParam String teamName, @RequestParam String teamStatus);
 
     @PostMapping("/events/save-leaderboard")
@@ -98,6 +123,9 @@ public interface TheJackFolioDBClient {
     @GetMapping("/events/get-document/{eventId}")
     public ResponseEntity<Document> findDoc(@PathVariable Integer eventId);
 
+    @PostMapping("/events/get-registration-statuses")
+    public ResponseEntity<List<RegistrationStatus>> getRegistrationStatuses(@RequestParam String email, @RequestBody List<Integer> eventIds);
+
     @PostMapping("/events/save-viewer")
     public ResponseEntity<Viewer> saveViewer(@RequestBody Viewer viewer);
 
@@ -123,7 +151,12 @@ public interface TheJackFolioDBClient {
     public ResponseEntity<List<Event>> findEventsScheduledForToday();
 
     @PostMapping("/events/update-event-status")
-    public ResponseEntity<String> updateEventStatus(@RequestParam String status, @RequestParam String eventName);
+    @CacheEvict(cacheNames = CacheNames.EVENTS, key = "#eventName")
+    public ResponseEntity<String> updateEventStatus(@RequestParam String status, @RequestParam String eventName, @RequestHeader(value = Lease.FENCING_TOKEN_HEADER, required = false) Long fencingToken);
+
+    @PostMapping("/events/update-event-statuses")
+    @CacheEvict(cacheNames = CacheNames.EVENTS, allEntries = true)
+    public ResponseEntity<List<EventStatusUpdate>> updateEventStatuses(@RequestBody List<EventStatusUpdate> updates, @RequestHeader(value = Lease.FENCING_TOKEN_HEADER, required = false) Long fencingToken);
 
     @PostMapping("/games/save-or-update-game")
     public ResponseEntity<Game> saveOrUpdateGame(@RequestBody Game game);
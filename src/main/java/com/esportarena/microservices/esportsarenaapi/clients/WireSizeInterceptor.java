@@ -0,0 +1,143 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.FeignRequestUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Counts DATABASE-SERVICE response bytes as they come off the connection. HC5 decompresses gzip bodies and drops
+// Content-Length before Feign sees the response, so the decoder can no longer tell how much went over the wire.
+// The Feign method arrives as a request header, which is taken off again before the request is sent
+public class WireSizeInterceptor implements HttpRequestInterceptor, HttpResponseInterceptor {
+
+    public static final String METHOD_HEADER = "X-Db-Client-Method";
+    private static final String METHOD_ATTRIBUTE = WireSizeInterceptor.class.getName() + ".method";
+    private static final String RESPONSE_SIZE_METRIC = "db.client.response.size";
+
+    private final MeterRegistry meterRegistry;
+
+    public WireSizeInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void process(HttpRequest request, EntityDetails entity, HttpContext context) {
+        Header method = request.getFirstHeader(METHOD_HEADER);
+        if(method != null) {
+            context.setAttribute(METHOD_ATTRIBUTE, method.getValue());
+            request.removeHeaders(METHOD_HEADER);
+        }
+    }
+
+    // Runs before decompression, so the entity here is still the raw one
+    @Override
+    public void process(HttpResponse response, EntityDetails entity, HttpContext context) throws IOException {
+        Object method = context.getAttribute(METHOD_ATTRIBUTE);
+        if(method == null || !(response instanceof ClassicHttpResponse classicResponse) || classicResponse.getEntity() == null) {
+            return;
+        }
+        HttpEntity rawEntity = classicResponse.getEntity();
+        DistributionSummary responseSize = DistributionSummary.builder(RESPONSE_SIZE_METRIC)
+                .baseUnit("bytes")
+                .tag("method", method.toString())
+                .tag("format", format(rawEntity.getContentType()))
+                .tag("encoding", rawEntity.getContentEncoding() != null ? rawEntity.getContentEncoding() : "identity")
+                .register(meterRegistry);
+        classicResponse.setEntity(new CountingEntity(rawEntity, new CountingInputStream(rawEntity.getContent(), responseSize)));
+    }
+
+    private static String format(String contentType) {
+        if(contentType == null) {
+            return FeignRequestUtils.UNKNOWN;
+        }
+        int parameters = contentType.indexOf(';');
+        return parameters < 0 ? contentType : contentType.substring(0, parameters);
+    }
+
+    // The stream is wrapped up front, getContent needs no lock that would pin a virtual thread to its carrier
+    private static class CountingEntity extends HttpEntityWrapper {
+
+        private final InputStream content;
+
+        private CountingEntity(HttpEntity entity, InputStream content) {
+            super(entity);
+            this.content = content;
+        }
+
+        @Override
+        public InputStream getContent() {
+            return content;
+        }
+    }
+
+    // Records once, at the end of the body or when it is closed early
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final DistributionSummary responseSize;
+        private long count;
+        private boolean recorded;
+
+        private CountingInputStream(InputStream in, DistributionSummary responseSize) {
+            super(in);
+            this.responseSize = responseSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if(value < 0) {
+                record();
+            } else {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if(read < 0) {
+                record();
+            } else {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                record();
+            }
+        }
+
+        private void record() {
+            if(!recorded) {
+                recorded = true;
+                responseSize.record(count);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AsyncTimeoutConfig implements WebMvcConfigurer {
+
+    private final DBClientProperties properties;
+
+    public AsyncTimeoutConfig(DBClientProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerDeferredResultInterceptors(new AsyncTimeoutInterceptor(properties.getAsyncTimeout()));
+    }
+}
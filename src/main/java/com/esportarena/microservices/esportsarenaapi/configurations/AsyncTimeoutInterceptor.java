@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+
+// spring.mvc.async.request-timeout applies to every CompletableFuture and Mono handler. Routes that legitimately
+// run longer, like document downloads, get their own timeout here, set before the async request starts.
+// A handler that sets a timeout on its own DeferredResult keeps it. NDJSON and SSE streams are one of those,
+// Spring MVC writes them through an emitter without a timeout, so they need no route here
+public class AsyncTimeoutInterceptor implements DeferredResultProcessingInterceptor {
+
+    private final DBClientProperties.AsyncTimeout properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public AsyncTimeoutInterceptor(DBClientProperties.AsyncTimeout properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, DeferredResult<T> deferredResult) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if(deferredResult.getTimeoutValue() != null || servletRequest == null || !(request instanceof AsyncWebRequest asyncWebRequest)) {
+            return;
+        }
+        Duration timeout = routeTimeout(servletRequest.getRequestURI().substring(servletRequest.getContextPath().length()));
+        if(timeout != null) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+
+    private Duration routeTimeout(String path) {
+        for(Map.Entry<String, Duration> route : properties.getRoutes().entrySet()) {
+            if(pathMatcher.match(route.getKey(), path)) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.CoalescingCapability;
+import com.esportarena.microservices.esportsarenaapi.clients.HedgedInstanceTracker;
+import com.esportarena.microservices.esportsarenaapi.clients.InstanceStatistics;
+import com.esportarena.microservices.esportsarenaapi.clients.RetryBudget;
+import com.esportarena.microservices.esportsarenaapi.clients.RetryBudgetPredicate;
+import feign.Capability;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DBClientProperties.class)
+@LoadBalancerClient(name = "DATABASE-SERVICE", configuration = DBLoadBalancerConfiguration.class)
+public class DBClientConfig {
+
+    @Bean
+    public Capability coalescingCapability(DBClientProperties properties, MeterRegistry meterRegistry) {
+        return new CoalescingCapability(properties.getCoalescing(), meterRegistry);
+    }
+
+    @Bean
+    public HedgedInstanceTracker hedgedInstanceTracker() {
+        return new HedgedInstanceTracker();
+    }
+
+    @Bean
+    public InstanceStatistics instanceStatistics(DBClientProperties properties) {
+        return new InstanceStatistics(properties.getLoadBalancer());
+    }
+
+    @Bean(name = RetryBudget.BEAN_NAME)
+    public RetryBudget retryBudget(DBClientProperties properties, MeterRegistry meterRegistry) {
+        return new RetryBudget(properties.getRetryBudget(), meterRegistry);
+    }
+
+    @Bean
+    public RetryBudgetPredicate retryBudgetPredicate(RetryBudget retryBudget) {
+        return new RetryBudgetPredicate(retryBudget);
+    }
+}
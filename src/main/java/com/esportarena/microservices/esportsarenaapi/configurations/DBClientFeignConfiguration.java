@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.BulkheadCapability;
+import com.esportarena.microservices.esportsarenaapi.clients.CircuitBreakerCapability;
+import com.esportarena.microservices.esportsarenaapi.clients.DeadlineCapability;
+import com.esportarena.microservices.esportsarenaapi.clients.HedgedInstanceTracker;
+import com.esportarena.microservices.esportsarenaapi.clients.HedgingCapability;
+import com.esportarena.microservices.esportsarenaapi.clients.MeteredDecoder;
+import com.esportarena.microservices.esportsarenaapi.clients.RequestCompressionCapability;
+import com.esportarena.microservices.esportsarenaapi.clients.RetryBudget;
+import com.esportarena.microservices.esportsarenaapi.clients.WireSizeInterceptor;
+import com.esportarena.microservices.esportsarenaapi.enums.WireFormat;
+import feign.Capability;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.optionals.OptionalDecoder;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Client specific configuration for DATABASE-SERVICE, deliberately not a @Configuration so it is not picked up by every client
+public class DBClientFeignConfiguration {
+
+    @Bean
+    public Encoder feignEncoder(ObjectFactory<HttpMessageConverters> messageConverters, DBClientProperties properties) {
+        HttpMessageConverters converters = wireFormatConverters(messageConverters.getObject(), properties.getWireFormat());
+        return new SpringEncoder(() -> converters);
+    }
+
+    @Bean
+    public Decoder feignDecoder(ObjectFactory<HttpMessageConverters> messageConverters, DBClientProperties properties, MeterRegistry meterRegistry) {
+        HttpMessageConverters converters = wireFormatConverters(messageConverters.getObject(), properties.getWireFormat());
+        return new OptionalDecoder(new MeteredDecoder(new ResponseEntityDecoder(new SpringDecoder(() -> converters)), meterRegistry));
+    }
+
+    @Bean
+    public RequestInterceptor wireFormatAcceptInterceptor(DBClientProperties properties) {
+        WireFormat wireFormat = properties.getWireFormat();
+        return template -> {
+            if(wireFormat != WireFormat.JSON && !template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, wireFormat.getMediaType(), MediaType.APPLICATION_JSON_VALUE + ";q=0.9", MediaType.ALL_VALUE + ";q=0.5");
+            }
+        };
+    }
+
+    // Lets WireSizeInterceptor tag the response size with the Feign method, it takes the header off before sending
+    @Bean
+    @ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", havingValue = "true")
+    public RequestInterceptor wireSizeMethodInterceptor() {
+        return template -> {
+            if(template.methodMetadata() != null && template.methodMetadata().method() != null) {
+                template.header(WireSizeInterceptor.METHOD_HEADER, template.methodMetadata().method().getName());
+            }
+        };
+    }
+
+    @Bean
+    public Capability requestCompressionCapability(DBClientProperties properties, MeterRegistry meterRegistry) {
+        return new RequestCompressionCapability(properties.getCompression(), meterRegistry);
+    }
+
+    // Virtual threads when spring.threads.virtual.enabled is on, HedgingCapability caps the calls in flight at the pool size.
+    // Otherwise a bounded platform pool without a queue, so hedged calls never queue behind the callers blocked on them.
+    // When either is full HedgingCapability runs the call unhedged on the caller thread
+    @Bean
+    public AsyncTaskExecutor dbClientHedgeExecutor(DBClientProperties properties, Environment environment) {
+        if(Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("db-client-hedge-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new DeadlineTaskDecorator());
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("db-client-hedge-");
+        executor.setCorePoolSize(properties.getHedging().getPoolSize());
+        executor.setMaxPoolSize(properties.getHedging().getPoolSize());
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setTaskDecorator(new DeadlineTaskDecorator());
+        return executor;
+    }
+
+    @Bean
+    public Capability hedgingCapability(DBClientProperties properties, HedgedInstanceTracker hedgedInstanceTracker, MeterRegistry meterRegistry,
+                                        AsyncTaskExecutor dbClientHedgeExecutor) {
+        return new HedgingCapability(properties.getHedging(), hedgedInstanceTracker, dbClientHedgeExecutor, meterRegistry);
+    }
+
+    @Bean
+    public Capability bulkheadCapability(DBClientProperties properties, BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        return new BulkheadCapability(properties.getBulkhead(), bulkheadRegistry, meterRegistry);
+    }
+
+    @Bean
+    public Capability circuitBreakerCapability(DBClientProperties properties, CircuitBreakerRegistry circuitBreakerRegistry, RetryBudget retryBudget) {
+        return new CircuitBreakerCapability(properties.getCircuitBreaker(), circuitBreakerRegistry, retryBudget);
+    }
+
+    @Bean
+    public Capability deadlineCapability(DBClientProperties properties, MeterRegistry meterRegistry) {
+        return new DeadlineCapability(properties.getDeadline(), meterRegistry);
+    }
+
+    // The selected binary format goes first so it is used for request bodies, every format stays available for decoding
+    private HttpMessageConverters wireFormatConverters(HttpMessageConverters defaults, WireFormat wireFormat) {
+        HttpMessageConverter<?> smileConverter = new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.smile().build());
+        HttpMessageConverter<?> cborConverter = new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.cbor().build());
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        if(wireFormat == WireFormat.SMILE) {
+            converters.add(smileConverter);
+        } else if(wireFormat == WireFormat.CBOR) {
+            converters.add(cborConverter);
+        }
+        converters.addAll(defaults.getConverters());
+        if(wireFormat != WireFormat.SMILE) {
+            converters.add(smileConverter);
+        }
+        if(wireFormat != WireFormat.CBOR) {
+            converters.add(cborConverter);
+        }
+        return new HttpMessageConverters(false, converters);
+    }
+}
@@ -0,0 +1,721 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.enums.WireFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "esports-arena.db-client")
+public class DBClientProperties {
+
+    private Coalescing coalescing = new Coalescing();
+    private Bulk bulk = new Bulk();
+    private Transport transport = new Transport();
+    private WireFormat wireFormat = WireFormat.JSON;
+    private Compression compression = new Compression();
+    private Hedging hedging = new Hedging();
+    private LoadBalancer loadBalancer = new LoadBalancer();
+    private Bulkhead bulkhead = new Bulkhead();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private RetryBudget retryBudget = new RetryBudget();
+    private Deadline deadline = new Deadline();
+    private ResponseCache responseCache = new ResponseCache();
+    private EventTimer eventTimer = new EventTimer();
+    private Leadership leadership = new Leadership();
+    private Sharding sharding = new Sharding();
+    private AsyncTimeout asyncTimeout = new AsyncTimeout();
+
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    public void setCoalescing(Coalescing coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    public Bulk getBulk() {
+        return bulk;
+    }
+
+    public void setBulk(Bulk bulk) {
+        this.bulk = bulk;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public void setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+
+    public Hedging getHedging() {
+        return hedging;
+    }
+
+    public void setHedging(Hedging hedging) {
+        this.hedging = hedging;
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public void setLoadBalancer(LoadBalancer loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    public void setRetryBudget(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public EventTimer getEventTimer() {
+        return eventTimer;
+    }
+
+    public void setEventTimer(EventTimer eventTimer) {
+        this.eventTimer = eventTimer;
+    }
+
+    public Leadership getLeadership() {
+        return leadership;
+    }
+
+    public void setLeadership(Leadership leadership) {
+        this.leadership = leadership;
+    }
+
+    public Sharding getSharding() {
+        return sharding;
+    }
+
+    public void setSharding(Sharding sharding) {
+        this.sharding = sharding;
+    }
+
+    public AsyncTimeout getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    public void setAsyncTimeout(AsyncTimeout asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    public static class Coalescing {
+
+        private boolean enabled = true;
+        private Set<String> methods = new HashSet<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Set<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(Set<String> methods) {
+            this.methods = methods;
+        }
+    }
+
+    public static class Bulk {
+
+        private int chunkSize = 50;
+        private int maxIds = 500;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxIds() {
+            return maxIds;
+        }
+
+        public void setMaxIds(int maxIds) {
+            this.maxIds = maxIds;
+        }
+    }
+
+    public static class Transport {
+
+        private Duration idleEviction = Duration.ofSeconds(30);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+        public Duration getIdleEviction() {
+            return idleEviction;
+        }
+
+        public void setIdleEviction(Duration idleEviction) {
+            this.idleEviction = idleEviction;
+        }
+
+        public Duration getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+    }
+
+    public static class Compression {
+
+        private boolean requestEnabled = false;
+        private int minRequestSize = 2048;
+        private Set<String> mimeTypes = new HashSet<>(Set.of("application/json", "application/x-jackson-smile", "application/cbor"));
+
+        public boolean isRequestEnabled() {
+            return requestEnabled;
+        }
+
+        public void setRequestEnabled(boolean requestEnabled) {
+            this.requestEnabled = requestEnabled;
+        }
+
+        public int getMinRequestSize() {
+            return minRequestSize;
+        }
+
+        public void setMinRequestSize(int minRequestSize) {
+            this.minRequestSize = minRequestSize;
+        }
+
+        public Set<String> getMimeTypes() {
+            return mimeTypes;
+        }
+
+        public void setMimeTypes(Set<String> mimeTypes) {
+            this.mimeTypes = mimeTypes;
+        }
+    }
+
+    public static class Hedging {
+
+        private boolean enabled = true;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofMillis(500);
+        private int minSamples = 20;
+        private double budgetRatio = 0.1;
+        private int budgetMaxTokens = 20;
+        private int poolSize = 64;
+        private Set<String> methods = new HashSet<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public double getBudgetRatio() {
+            return budgetRatio;
+        }
+
+        public void setBudgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+        }
+
+        public int getBudgetMaxTokens() {
+            return budgetMaxTokens;
+        }
+
+        public void setBudgetMaxTokens(int budgetMaxTokens) {
+            this.budgetMaxTokens = budgetMaxTokens;
+        }
+
+        public Set<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(Set<String> methods) {
+            this.methods = methods;
+        }
+    }
+
+    public static class LoadBalancer {
+
+        private Duration decayTime = Duration.ofSeconds(10);
+        private Duration quarantine = Duration.ofSeconds(5);
+
+        public Duration getDecayTime() {
+            return decayTime;
+        }
+
+        public void setDecayTime(Duration decayTime) {
+            this.decayTime = decayTime;
+        }
+
+        public Duration getQuarantine() {
+            return quarantine;
+        }
+
+        public void setQuarantine(Duration quarantine) {
+            this.quarantine = quarantine;
+        }
+    }
+
+    public static class Bulkhead {
+
+        private boolean enabled = true;
+        private Set<String> documentMethods = new HashSet<>();
+        private Duration documentReadTimeout = Duration.ofSeconds(120);
+        private Duration readTimeout = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Set<String> getDocumentMethods() {
+            return documentMethods;
+        }
+
+        public void setDocumentMethods(Set<String> documentMethods) {
+            this.documentMethods = documentMethods;
+        }
+
+        public Duration getDocumentReadTimeout() {
+            return documentReadTimeout;
+        }
+
+        public void setDocumentReadTimeout(Duration documentReadTimeout) {
+            this.documentReadTimeout = documentReadTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+    }
+
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class RetryBudget {
+
+        private double ratio = 0.1;
+        private int maxTokens = 100;
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public int getMaxTokens() {
+            return maxTokens;
+        }
+
+        public void setMaxTokens(int maxTokens) {
+            this.maxTokens = maxTokens;
+        }
+    }
+
+    public static class Deadline {
+
+        private boolean enabled = true;
+        private String header = "X-Request-Timeout-Ms";
+        private Duration defaultTimeout = Duration.ofSeconds(10);
+        private Map<String, Duration> routes = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public void setHeader(String header) {
+            this.header = header;
+        }
+
+        public Duration getDefaultTimeout() {
+            return defaultTimeout;
+        }
+
+        public void setDefaultTimeout(Duration defaultTimeout) {
+            this.defaultTimeout = defaultTimeout;
+        }
+
+        public Map<String, Duration> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(Map<String, Duration> routes) {
+            this.routes = routes;
+        }
+    }
+
+    public static class ResponseCache {
+
+        private Duration fresh = Duration.ofSeconds(30);
+        private Duration stale = Duration.ofMinutes(5);
+        private int maximumSize = 1000;
+        private DataSize documentMaximumWeight = DataSize.ofMegabytes(512);
+        private int refreshPoolSize = 8;
+        private int refreshQueueCapacity = 100;
+
+        public Duration getFresh() {
+            return fresh;
+        }
+
+        public void setFresh(Duration fresh) {
+            this.fresh = fresh;
+        }
+
+        public Duration getStale() {
+            return stale;
+        }
+
+        public void setStale(Duration stale) {
+            this.stale = stale;
+        }
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public DataSize getDocumentMaximumWeight() {
+            return documentMaximumWeight;
+        }
+
+        public void setDocumentMaximumWeight(DataSize documentMaximumWeight) {
+            this.documentMaximumWeight = documentMaximumWeight;
+        }
+
+        public int getRefreshPoolSize() {
+            return refreshPoolSize;
+        }
+
+        public void setRefreshPoolSize(int refreshPoolSize) {
+            this.refreshPoolSize = refreshPoolSize;
+        }
+
+        public int getRefreshQueueCapacity() {
+            return refreshQueueCapacity;
+        }
+
+        public void setRefreshQueueCapacity(int refreshQueueCapacity) {
+            this.refreshQueueCapacity = refreshQueueCapacity;
+        }
+    }
+
+    public static class EventTimer {
+
+        private Duration tick = Duration.ofSeconds(1);
+        private int wheelSize = 64;
+        private Duration ongoingLead = Duration.ofHours(1);
+        private Duration retryDelay = Duration.ofSeconds(30);
+        private Duration reconcileInterval = Duration.ofMinutes(15);
+        private Duration replanInterval = Duration.ofSeconds(2);
+        private int replanBatchSize = 100;
+        private Duration replanRetention = Duration.ofHours(1);
+
+        public Duration getTick() {
+            return tick;
+        }
+
+        public void setTick(Duration tick) {
+            this.tick = tick;
+        }
+
+        public int getWheelSize() {
+            return wheelSize;
+        }
+
+        public void setWheelSize(int wheelSize) {
+            this.wheelSize = wheelSize;
+        }
+
+        public Duration getOngoingLead() {
+            return ongoingLead;
+        }
+
+        public void setOngoingLead(Duration ongoingLead) {
+            this.ongoingLead = ongoingLead;
+        }
+
+        public Duration getRetryDelay() {
+            return retryDelay;
+        }
+
+        public void setRetryDelay(Duration retryDelay) {
+            this.retryDelay = retryDelay;
+        }
+
+        public Duration getReconcileInterval() {
+            return reconcileInterval;
+        }
+
+        public void setReconcileInterval(Duration reconcileInterval) {
+            this.reconcileInterval = reconcileInterval;
+        }
+
+        public Duration getReplanInterval() {
+            return replanInterval;
+        }
+
+        public void setReplanInterval(Duration replanInterval) {
+            this.replanInterval = replanInterval;
+        }
+
+        public int getReplanBatchSize() {
+            return replanBatchSize;
+        }
+
+        public void setReplanBatchSize(int replanBatchSize) {
+            this.replanBatchSize = replanBatchSize;
+        }
+
+        public Duration getReplanRetention() {
+            return replanRetention;
+        }
+
+        public void setReplanRetention(Duration replanRetention) {
+            this.replanRetention = replanRetention;
+        }
+    }
+
+    public static class Leadership {
+
+        private boolean enabled = true;
+        private String table = "scheduler_lease";
+        private String name = "event-status-scheduler";
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration renewInterval = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getTable() {
+            return table;
+        }
+
+        public void setTable(String table) {
+            this.table = table;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getRenewInterval() {
+            return renewInterval;
+        }
+
+        public void setRenewInterval(Duration renewInterval) {
+            this.renewInterval = renewInterval;
+        }
+    }
+
+    public static class Sharding {
+
+        private boolean enabled = true;
+        private String serviceId = "ESPORTS-SERVICE";
+        private int virtualNodes = 128;
+        private Duration refreshInterval = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getServiceId() {
+            return serviceId;
+        }
+
+        public void setServiceId(String serviceId) {
+            this.serviceId = serviceId;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+    }
+
+    public static class AsyncTimeout {
+
+        private Map<String, Duration> routes = new LinkedHashMap<>();
+
+        public Map<String, Duration> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(Map<String, Duration> routes) {
+            this.routes = routes;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.HedgeAwareServiceInstanceListSupplier;
+import com.esportarena.microservices.esportsarenaapi.clients.HedgedInstanceTracker;
+import com.esportarena.microservices.esportsarenaapi.clients.InstanceStatistics;
+import com.esportarena.microservices.esportsarenaapi.clients.LatencyAwareLoadBalancer;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+// Load balancer configuration for DATABASE-SERVICE, registered through @LoadBalancerClient so it stays out of component scanning
+public class DBLoadBalancerConfiguration {
+
+    @Bean
+    public ServiceInstanceListSupplier serviceInstanceListSupplier(ConfigurableApplicationContext context) {
+        return ServiceInstanceListSupplier.builder()
+                .withBlockingDiscoveryClient()
+                .withCaching()
+                .with((applicationContext, delegate) -> new HedgeAwareServiceInstanceListSupplier(delegate,
+                        applicationContext.getBean(HedgedInstanceTracker.class)))
+                .build(context);
+    }
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(Environment environment,
+                                                                                   LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                                   InstanceStatistics instanceStatistics) {
+        String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), instanceStatistics);
+    }
+}
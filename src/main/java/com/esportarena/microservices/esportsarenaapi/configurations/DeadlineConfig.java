@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+
+import java.util.List;
+
+@Configuration
+public class DeadlineConfig {
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(DBClientProperties properties) {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>(new DeadlineFilter(properties.getDeadline()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // Picked up by the auto-configured applicationTaskExecutor so async DB client calls keep the caller's deadline
+    // and record their retries into the caller's RetryContext. The executor only takes a single decorator
+    @Bean
+    public TaskDecorator deadlineTaskDecorator() {
+        return new CompositeTaskDecorator(List.of(new DeadlineTaskDecorator(), new RetryContextTaskDecorator()));
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import io.github.resilience4j.core.ContextPropagator;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// The retry scheduler's counterpart of DeadlineTaskDecorator. A retried CompletableFuture endpoint is invoked again on
+// a resilience4j thread, without this its DB calls would run with no deadline at all
+public class DeadlineContextPropagator implements ContextPropagator<Deadline> {
+
+    @Override
+    public Supplier<Optional<Deadline>> retrieve() {
+        return () -> Optional.ofNullable(Deadline.current());
+    }
+
+    @Override
+    public Consumer<Optional<Deadline>> copy() {
+        return deadline -> Deadline.set(deadline.orElse(null));
+    }
+
+    @Override
+    public Consumer<Optional<Deadline>> clear() {
+        return deadline -> Deadline.clear();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DBClientProperties.Deadline properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public DeadlineFilter(DBClientProperties.Deadline properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Deadline.set(Deadline.after(budget(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    private Duration budget(HttpServletRequest request) {
+        Duration routeBudget = properties.getDefaultTimeout();
+        for(Map.Entry<String, Duration> route : properties.getRoutes().entrySet()) {
+            if(pathMatcher.match(route.getKey(), request.getRequestURI().substring(request.getContextPath().length()))) {
+                routeBudget = route.getValue();
+                break;
+            }
+        }
+        Duration callerBudget = callerBudget(request.getHeader(properties.getHeader()));
+        return callerBudget != null && callerBudget.compareTo(routeBudget) < 0 ? callerBudget : routeBudget;
+    }
+
+    private Duration callerBudget(String header) {
+        if(header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofMillis(Math.max(0, Long.parseLong(header.trim())));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+}
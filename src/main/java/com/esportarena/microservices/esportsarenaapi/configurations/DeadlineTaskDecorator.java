@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import org.springframework.core.task.TaskDecorator;
+
+public class DeadlineTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Deadline deadline = Deadline.current();
+        return () -> {
+            Deadline previous = Deadline.current();
+            Deadline.set(deadline);
+            try {
+                runnable.run();
+            } finally {
+                Deadline.set(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.controllers.EventController;
+import com.esportarena.microservices.esportsarenaapi.controllers.ReactiveEventController;
+import com.esportarena.microservices.esportsarenaapi.enums.EventProjection;
+import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
+import com.esportarena.microservices.esportsarenaapi.models.Event;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Collection;
+
+// Serializes Event lists through the Jackson view of the projection asked for in the view parameter
+@RestControllerAdvice(assignableTypes = {EventController.class, ReactiveEventController.class})
+public class EventProjectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String VIEW_PARAMETER = "view";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType, MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if(!(request instanceof ServletServerHttpRequest servletRequest) || !isEventList(bodyContainer.getValue())) {
+            return;
+        }
+        try {
+            EventProjection projection = EventProjection.fromValue(servletRequest.getServletRequest().getParameter(VIEW_PARAMETER));
+            if(projection != null) {
+                bodyContainer.setSerializationView(projection.getView());
+            }
+        } catch (ValidationException exception) {
+            // An unknown projection was already rejected by the service, its error body is written in full
+        }
+    }
+
+    // Single events keep their full body, their strong ETag is computed over the whole model
+    private boolean isEventList(Object body) {
+        return body instanceof Collection<?> collection && !collection.isEmpty() && collection.iterator().next() instanceof Event;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.WireSizeInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", havingValue = "true")
+public class FeignTransportConfig {
+
+    @Bean
+    public CloseableHttpClient httpClient5(HttpClientConnectionManager connectionManager, FeignHttpClientProperties httpClientProperties, DBClientProperties properties,
+                                           MeterRegistry meterRegistry) {
+        DBClientProperties.Transport transport = properties.getTransport();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(transport.getConnectionRequestTimeout().toMillis()))
+                .setRedirectsEnabled(httpClientProperties.isFollowRedirects())
+                .build();
+        WireSizeInterceptor wireSizeInterceptor = new WireSizeInterceptor(meterRegistry);
+        return HttpClients.custom()
+                .addRequestInterceptorFirst(wireSizeInterceptor)
+                .addResponseInterceptorFirst(wireSizeInterceptor)
+                .disableCookieManagement()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(transport.getIdleEviction().toMillis()))
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(HttpClientConnectionManager connectionManager) {
+        return registry -> {
+            if(connectionManager instanceof PoolingHttpClientConnectionManager poolingConnectionManager) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(poolingConnectionManager, "feign").bindTo(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.JdbcLeaseStore;
+import com.esportarena.microservices.esportsarenaapi.utilities.LeaseStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class LeaseConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeaseConfig.class);
+
+    // Replicas only elect one scheduler when spring.datasource points them at the same database,
+    // any other LeaseStore bean replaces this one
+    @Bean
+    @ConditionalOnMissingBean(LeaseStore.class)
+    public LeaseStore jdbcLeaseStore(JdbcTemplate jdbcTemplate, DBClientProperties properties) {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        if(dataSource != null && EmbeddedDatabaseConnection.isEmbedded(dataSource)) {
+            refuseCoordination(properties);
+        }
+        JdbcLeaseStore leaseStore = new JdbcLeaseStore(jdbcTemplate, properties.getLeadership().getTable());
+        leaseStore.createTableIfMissing();
+        return leaseStore;
+    }
+
+    // Every replica would win its own private lease and see only its own replan queue, so leadership and sharding are
+    // turned off rather than letting each replica believe it coordinates with the others
+    private static void refuseCoordination(DBClientProperties properties) {
+        if(properties.getLeadership().isEnabled() || properties.getSharding().isEnabled()) {
+            LOGGER.error("Scheduler lease table {} is on an embedded database no other replica can see, set spring.datasource to a shared database. Leadership and sharding are turned off, run a single replica until then", properties.getLeadership().getTable());
+            properties.getLeadership().setEnabled(false);
+            properties.getSharding().setEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class ReactiveClientConfig {
+
+    public static final String DB_WEB_CLIENT = "dbWebClient";
+
+    @Bean(name = DB_WEB_CLIENT)
+    public WebClient dbWebClient(WebClient.Builder webClientBuilder, ReactorLoadBalancerExchangeFilterFunction loadBalancerExchangeFilterFunction) {
+        return webClientBuilder
+                .baseUrl("http://DATABASE-SERVICE")
+                .filter(loadBalancerExchangeFilterFunction)
+                .build();
+    }
+}
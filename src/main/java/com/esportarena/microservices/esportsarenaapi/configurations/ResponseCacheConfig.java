@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.models.Document;
+import com.esportarena.microservices.esportsarenaapi.models.Game;
+import com.esportarena.microservices.esportsarenaapi.models.TeamWithPoints;
+import com.esportarena.microservices.esportsarenaapi.services.EventService;
+import com.esportarena.microservices.esportsarenaapi.services.GameService;
+import com.esportarena.microservices.esportsarenaapi.utilities.StaleWhileRevalidateCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    public static final String ACTIVE_GAMES_KEY = "active-games";
+
+    // Loads and background refreshes run here without the deadline of the request that triggered them,
+    // a refresh outlives that request. Once the pool and its queue are full the caller runs the load itself
+    @Bean
+    public ThreadPoolTaskExecutor responseCacheRefreshExecutor(DBClientProperties properties) {
+        DBClientProperties.ResponseCache responseCache = properties.getResponseCache();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("response-cache-refresh-");
+        executor.setCorePoolSize(responseCache.getRefreshPoolSize());
+        executor.setMaxPoolSize(responseCache.getRefreshPoolSize());
+        executor.setQueueCapacity(responseCache.getRefreshQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    public StaleWhileRevalidateCache<String, List<Game>> activeGamesResponseCache(DBClientProperties properties, GameService gameService, MeterRegistry meterRegistry,
+                                                                                 ThreadPoolTaskExecutor responseCacheRefreshExecutor) {
+        DBClientProperties.ResponseCache responseCache = properties.getResponseCache();
+        return monitor(new StaleWhileRevalidateCache<String, List<Game>>(responseCache.getFresh(), responseCache.getStale(), responseCache.getMaximumSize(), responseCacheRefreshExecutor,
+                key -> gameService.findAllActiveGames()), "active-games-response", meterRegistry);
+    }
+
+    @Bean
+    public StaleWhileRevalidateCache<Integer, List<TeamWithPoints>> teamsWithPointsResponseCache(DBClientProperties properties, EventService eventService, MeterRegistry meterRegistry,
+                                                                                                ThreadPoolTaskExecutor responseCacheRefreshExecutor) {
+        DBClientProperties.ResponseCache responseCache = properties.getResponseCache();
+        return monitor(new StaleWhileRevalidateCache<Integer, List<TeamWithPoints>>(responseCache.getFresh(), responseCache.getStale(), responseCache.getMaximumSize(), responseCacheRefreshExecutor,
+                eventService::findTeamsWithPoints), "teams-with-points-response", meterRegistry);
+    }
+
+    // A leaderboard document can be up to 100MB, so the cache holds as many bytes as configured rather than a number of documents
+    @Bean
+    public StaleWhileRevalidateCache<Integer, Document> leaderboardDocumentResponseCache(DBClientProperties properties, EventService eventService, MeterRegistry meterRegistry,
+                                                                                       ThreadPoolTaskExecutor responseCacheRefreshExecutor) {
+        DBClientProperties.ResponseCache responseCache = properties.getResponseCache();
+        return monitor(new StaleWhileRevalidateCache<Integer, Document>(responseCache.getFresh(), responseCache.getStale(), responseCache.getDocumentMaximumWeight().toBytes(),
+                ResponseCacheConfig::weigh, responseCacheRefreshExecutor, eventService::findLeaderboardDocument), "leaderboard-document-response", meterRegistry);
+    }
+
+    private static int weigh(Document document) {
+        return document.getDocument() != null ? Math.max(1, document.getDocument().length) : 1;
+    }
+
+    private <K, V> StaleWhileRevalidateCache<K, V> monitor(StaleWhileRevalidateCache<K, V> cache, String name, MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), name);
+        return cache;
+    }
+}
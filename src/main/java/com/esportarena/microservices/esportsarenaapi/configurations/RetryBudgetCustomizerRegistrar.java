@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.RetryBudgetPredicate;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+// Resilience4j applies a RetryConfigCustomizer by retry instance name, so every instance under
+// resilience4j.retry.instances gets one that installs the RetryBudgetPredicate bean
+public class RetryBudgetCustomizerRegistrar implements BeanDefinitionRegistryPostProcessor, EnvironmentAware, BeanFactoryAware {
+
+    private static final String INSTANCES = "resilience4j.retry.instances";
+
+    private Environment environment;
+    private BeanFactory beanFactory;
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        Map<String, Object> instances = Binder.get(environment).bind(INSTANCES, Bindable.mapOf(String.class, Object.class)).orElse(Map.of());
+        for(String instance : instances.keySet()) {
+            RootBeanDefinition definition = new RootBeanDefinition(RetryConfigCustomizer.class, () -> RetryConfigCustomizer.of(instance,
+                    builder -> builder.retryOnException(beanFactory.getBean(RetryBudgetPredicate.class))));
+            registry.registerBeanDefinition(instance + "-retry-budget-customizer", definition);
+        }
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.RetryBudget;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class RetryContextConfig {
+
+    @Bean
+    public FilterRegistrationBean<RetryContextFilter> retryContextFilter() {
+        FilterRegistrationBean<RetryContextFilter> registration = new FilterRegistrationBean<>(new RetryContextFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public RegistryEventConsumer<Retry> retryMetricsConsumer(MeterRegistry meterRegistry, RetryBudget retryBudget) {
+        return new RetryMetricsConsumer(meterRegistry, retryBudget);
+    }
+
+    @Bean
+    public static RetryBudgetCustomizerRegistrar retryBudgetCustomizerRegistrar() {
+        return new RetryBudgetCustomizerRegistrar();
+    }
+}
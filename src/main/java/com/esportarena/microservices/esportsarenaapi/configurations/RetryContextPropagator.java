@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
+import io.github.resilience4j.core.ContextPropagator;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// The next attempt of an async @Retry endpoint and its fallback run on the retry scheduler, they record into the
+// request's context rather than an empty one
+public class RetryContextPropagator implements ContextPropagator<RetryContext> {
+
+    @Override
+    public Supplier<Optional<RetryContext>> retrieve() {
+        return () -> Optional.of(RetryContext.current());
+    }
+
+    @Override
+    public Consumer<Optional<RetryContext>> copy() {
+        return context -> RetryContext.bind(context.orElse(null));
+    }
+
+    @Override
+    public Consumer<Optional<RetryContext>> clear() {
+        return context -> RetryContext.end();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
+import org.springframework.core.task.TaskDecorator;
+
+public class RetryContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RetryContext context = RetryContext.current();
+        return () -> {
+            RetryContext previous = RetryContext.bind(context);
+            try {
+                runnable.run();
+            } finally {
+                RetryContext.bind(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.RetryBudget;
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Feeds the request's RetryContext, per endpoint retry metrics and the retry budget, the retry instance name identifies the endpoint
+public class RetryMetricsConsumer implements RegistryEventConsumer<Retry> {
+
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget retryBudget;
+
+    public RetryMetricsConsumer(MeterRegistry meterRegistry, RetryBudget retryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public void onEntryAddedEvent(EntryAddedEvent<Retry> entryAddedEvent) {
+        Retry retry = entryAddedEvent.getAddedEntry();
+        String endpoint = retry.getName();
+        Counter attempts = Counter.builder("endpoint.retry.attempts").tag("endpoint", endpoint).register(meterRegistry);
+        Counter recovered = Counter.builder("endpoint.retry.recovered").tag("endpoint", endpoint).register(meterRegistry);
+        Counter exhausted = Counter.builder("endpoint.retry.exhausted").tag("endpoint", endpoint).register(meterRegistry);
+        Timer wait = Timer.builder("endpoint.retry.wait").tag("endpoint", endpoint).register(meterRegistry);
+        retry.getEventPublisher()
+                .onRetry(event -> {
+                    // Only fired when another attempt is really coming
+                    retryBudget.onRetry();
+                    attempts.increment();
+                    wait.record(event.getWaitInterval());
+                    RetryContext.current().onRetry(event.getNumberOfRetryAttempts(), event.getWaitInterval(), event.getLastThrowable());
+                })
+                .onSuccess(event -> recovered.increment())
+                .onError(event -> exhausted.increment());
+    }
+
+    @Override
+    public void onEntryRemovedEvent(EntryRemovedEvent<Retry> entryRemoveEvent) {
+    }
+
+    @Override
+    public void onEntryReplacedEvent(EntryReplacedEvent<Retry> entryReplacedEvent) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.esportarena.microservices.esportsarenaapi.controllers;
+
+import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
+import com.esportarena.microservices.esportsarenaapi.models.PlayerDashboard;
+import com.esportarena.microservices.esportsarenaapi.services.DashboardService;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+@Tag(name = "Dashboard", description = "Aggregated page APIs")
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService service;
+
+    // No @Retry here, each section already goes through the DB client resilience and a failed section is returned empty
+    @Operation(
+            summary = "Get player dashboard",
+            description = "Get profile, profile completeness, upcoming events, events for interested games and interested games in a single request. Sections that fail are listed in failedSections."
+    )
+    @GetMapping("/player/{email}")
+    public CompletableFuture<ResponseEntity<PlayerDashboard>> getPlayerDashboard(@PathVariable String email) {
+        return service.getPlayerDashboard(email)
+                .thenApply(dashboard -> {
+                    if(service.isFailed(dashboard)) {
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(dashboard);
+                    }
+                    return ResponseEntity.status(HttpStatus.OK).body(dashboard);
+                })
+                .exceptionally(throwable -> {
+                    Throwable exception = FutureUtils.unwrap(throwable);
+                    if(exception instanceof ValidationException) {
+                        PlayerDashboard dashboard = new PlayerDashboard();
+                        dashboard.setMessage(exception.getMessage());
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(dashboard);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
+    }
+}
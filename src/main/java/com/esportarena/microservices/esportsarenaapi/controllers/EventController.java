@@ -5,6 +5,11 @@ import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
 import com.esportarena.microservices.esportsarenaapi.models.*;
 import com.esportarena.microservices.esportsarenaapi.services.EventService;
+import com.esportarena.microservices.esportsarenaapi.utilities.ETags;
+import com.esportarena.microservices.esportsarenaapi.utilities.EventCursor;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
+import com.esportarena.microservices.esportsarenaapi.utilities.StaleWhileRevalidateCache;
 import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.common.util.StringUtils;
@@ -13,15 +18,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
@@ -31,9 +41,12 @@ import static org.springframework.web.bind.annotation.RequestMethod.POST;
 public class EventController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EventController.class);
-    private boolean isRetryEnabled = false;
     @Autowired
     private EventService service;
+    @Autowired
+    private StaleWhileRevalidateCache<Integer, List<TeamWithPoints>> teamsWithPointsCache;
+    @Autowired
+    private StaleWhileRevalidateCache<Integer, Document> leaderboardDocumentCache;
 
     @Operation(
             summary = "Save OR Update teams",
@@ -44,12 +57,9 @@ public class EventController {
     public ResponseEntity<Team> saveOrUpdateTeam(@RequestBody Team team, @RequestParam boolean isCreate, @RequestParam boolean isUpdate) {
         Team response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveOrUpdateTeam(team, isCreate, isUpdate);
             // TODO: Send email to participant that successfully joined/created a team. Wait for approval
         } catch (ValidationException | MapperException | DataBaseOperationException exception){
@@ -59,13 +69,11 @@ public class EventController {
             team.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(team);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<Team> saveOrUpdateTeamDbRetry(Team team, boolean isCreate, boolean isUpdate, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Team teamResponse = new Team();
         teamResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(teamResponse);
@@ -80,25 +88,20 @@ public class EventController {
     public ResponseEntity<Team> getTeam(@PathVariable String name) {
         Team response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.getTeam(name);
         } catch (ValidationException | MapperException | DataBaseOperationException exception){
             response = new Team();
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.strong(response)).body(response);
     }
 
     public ResponseEntity<Team> getTeamDbRetry(String name, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Team teamResponse = new Team();
         teamResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(teamResponse);
@@ -113,25 +116,20 @@ public class EventController {
     public ResponseEntity<String> updateTeamStatus(@RequestParam String teamName, @RequestParam String teamStatus) {
         String response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.updateTeamStatus(teamName, teamStatus);
             // TODO: Update team with the current status as soon as its updated
         } catch (ValidationException | DataBaseOperationException exception){
             response = exception.getMessage();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<String> updateTeamStatusDbRetry(String teamName, String teamStatus, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         return ResponseEntity.status(HttpStatus.OK).body(StringConstants.FALLBACK_MESSAGE);
     }
 
@@ -141,38 +139,38 @@ public class EventController {
     )
     @GetMapping("/get-upcoming-events/{email}")
     @Retry(name = "find-upcoming-events-db-retry", fallbackMethod = "findUpcomingEventsDbRetry")
-    public ResponseEntity<List<Event>> findUpcomingEvents(@PathVariable String email) {
-        List<Event> response = null;
-        try{
-            if(isRetryEnabled){
-                LOGGER.info(StringConstants.RETRY_MESSAGE);
-            }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
-            response = service.findUpcomingEvents(email);
-        } catch (ValidationException | MapperException | DataBaseOperationException exception){
-            response = new ArrayList<>();
-            Event event = new Event();
-            event.setMessage(exception.getMessage());
-            response.add(event);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
-        isRetryEnabled = false;
-        if(response == null) {
-            response = new ArrayList<>();
+    public CompletableFuture<ResponseEntity<List<Event>>> findUpcomingEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view) {
+        if(RetryContext.current().isRetry()){
+            LOGGER.info(StringConstants.RETRY_MESSAGE);
         }
-        return ResponseEntity.status(HttpStatus.OK).body(response);
-    }
-
-    public ResponseEntity<List<Event>> findUpcomingEventsDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        return service.findUpcomingEventsAsync(email, limit, cursor, view)
+                .thenApply(eventPage -> {
+                    List<Event> response = eventPage.getEvents();
+                    if(response == null) {
+                        response = new ArrayList<>();
+                    }
+                    return withNextCursor(ResponseEntity.status(HttpStatus.OK), eventPage).body(response);
+                })
+                .exceptionally(throwable -> {
+                    Throwable exception = FutureUtils.unwrap(throwable);
+                    if(exception instanceof ValidationException || exception instanceof MapperException || exception instanceof DataBaseOperationException) {
+                        List<Event> response = new ArrayList<>();
+                        Event event = new Event();
+                        event.setMessage(exception.getMessage());
+                        response.add(event);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
+    }
+
+    public CompletableFuture<ResponseEntity<List<Event>>> findUpcomingEventsDbRetry(String email, Integer limit, String cursor, String view, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event event = new Event();
         event.setMessage(StringConstants.FALLBACK_MESSAGE);
         List<Event> eventsResponse = new ArrayList<>();
         eventsResponse.add(event);
-        return ResponseEntity.status(HttpStatus.OK).body(eventsResponse);
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(eventsResponse));
     }
 
     @Operation(
@@ -184,12 +182,9 @@ public class EventController {
     public ResponseEntity<List<Event>> findActiveUpcomingEventsWrtInterestedGames(@PathVariable String email) {
         List<Event> eventResults = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             if(StringUtils.isEmpty(email) || StringUtils.isBlank(email)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
@@ -201,13 +196,11 @@ public class EventController {
             eventResults.add(event);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(eventResults);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(eventResults);
     }
 
     public ResponseEntity<List<Event>> findActiveUpcomingEventsWrtInterestedGamesDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event event = new Event();
         event.setMessage(StringConstants.FALLBACK_MESSAGE);
         List<Event> eventsResponse = new ArrayList<>();
@@ -221,19 +214,18 @@ public class EventController {
     )
     @GetMapping("/get-upcoming-organizer-events/{email}")
     @Retry(name = "get-upcoming-organizer-events-db-retry", fallbackMethod = "findAllUpcomingOrganizerEventsDbRetry")
-    public ResponseEntity<List<Event>> findAllUpcomingOrganizerEvents(@PathVariable String email) {
+    public ResponseEntity<List<Event>> findAllUpcomingOrganizerEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view) {
         List<Event> eventResults = null;
+        EventPage eventPage = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             if(StringUtils.isEmpty(email) || StringUtils.isBlank(email)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
-            eventResults = service.findAllUpcomingOrganizerEvents(email);
+            eventPage = service.findAllUpcomingOrganizerEvents(email, limit, cursor, view);
+            eventResults = eventPage.getEvents();
         } catch (DataBaseOperationException | MapperException | ValidationException exception) {
             eventResults = new ArrayList<>();
             Event event = new Event();
@@ -241,13 +233,11 @@ public class EventController {
             eventResults.add(event);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(eventResults);
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(eventResults);
+        return withNextCursor(ResponseEntity.status(HttpStatus.OK), eventPage).body(eventResults);
     }
 
-    public ResponseEntity<List<Event>> findAllUpcomingOrganizerEventsDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+    public ResponseEntity<List<Event>> findAllUpcomingOrganizerEventsDbRetry(String email, Integer limit, String cursor, String view, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event event = new Event();
         event.setMessage(StringConstants.FALLBACK_MESSAGE);
         List<Event> eventsResponse = new ArrayList<>();
@@ -261,19 +251,18 @@ public class EventController {
     )
     @GetMapping("/get-completed-events-organizer/{email}")
     @Retry(name = "get-completed-events-organizer-db-retry", fallbackMethod = "findAllLeaderboardCompleteOrganizerEventsDbRetry")
-    public ResponseEntity<List<Event>> findAllLeaderboardCompleteOrganizerEvents(@PathVariable String email) {
+    public ResponseEntity<List<Event>> findAllLeaderboardCompleteOrganizerEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view) {
         List<Event> eventResults = null;
+        EventPage eventPage = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             if(StringUtils.isEmpty(email) || StringUtils.isBlank(email)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
-            eventResults = service.findAllLeaderboardCompleteOrganizerEvents(email);
+            eventPage = service.findAllLeaderboardCompleteOrganizerEvents(email, limit, cursor, view);
+            eventResults = eventPage.getEvents();
         } catch (DataBaseOperationException | MapperException | ValidationException exception) {
             eventResults = new ArrayList<>();
             Event event = new Event();
@@ -281,13 +270,11 @@ public class EventController {
             eventResults.add(event);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(eventResults);
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(eventResults);
+        return withNextCursor(ResponseEntity.status(HttpStatus.OK), eventPage).body(eventResults);
     }
 
-    public ResponseEntity<List<Event>> findAllLeaderboardCompleteOrganizerEventsDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+    public ResponseEntity<List<Event>> findAllLeaderboardCompleteOrganizerEventsDbRetry(String email, Integer limit, String cursor, String view, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event event = new Event();
         event.setMessage(StringConstants.FALLBACK_MESSAGE);
         List<Event> eventsResponse = new ArrayList<>();
@@ -301,19 +288,18 @@ public class EventController {
     )
     @GetMapping("/get-only-active-events-organizer/{email}")
     @Retry(name = "get-only-active-events-organizer-db-retry", fallbackMethod = "findOnlyActiveOrganizerEventsDbRetry")
-    public ResponseEntity<List<Event>> findOnlyActiveOrganizerEvents(@PathVariable String email) {
+    public ResponseEntity<List<Event>> findOnlyActiveOrganizerEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view) {
         List<Event> eventResults = null;
+        EventPage eventPage = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             if(StringUtils.isEmpty(email) || StringUtils.isBlank(email)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
-            eventResults = service.findOnlyActiveOrganizerEvents(email);
+            eventPage = service.findOnlyActiveOrganizerEvents(email, limit, cursor, view);
+            eventResults = eventPage.getEvents();
         } catch (DataBaseOperationException | MapperException | ValidationException exception) {
             eventResults = new ArrayList<>();
             Event event = new Event();
@@ -321,13 +307,11 @@ public class EventController {
             eventResults.add(event);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(eventResults);
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(eventResults);
+        return withNextCursor(ResponseEntity.status(HttpStatus.OK), eventPage).body(eventResults);
     }
 
-    public ResponseEntity<List<Event>> findOnlyActiveOrganizerEventsDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+    public ResponseEntity<List<Event>> findOnlyActiveOrganizerEventsDbRetry(String email, Integer limit, String cursor, String view, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event event = new Event();
         event.setMessage(StringConstants.FALLBACK_MESSAGE);
         List<Event> eventsResponse = new ArrayList<>();
@@ -341,19 +325,18 @@ public class EventController {
     )
     @GetMapping("/get-completed-events-participant/{email}")
     @Retry(name = "get-completed-events-participant-db-retry", fallbackMethod = "findAllLeaderboardCompleteParticipantEventsDbRetry")
-    public ResponseEntity<List<Event>> findAllLeaderboardCompleteParticipantEvents(@PathVariable String email) {
+    public ResponseEntity<List<Event>> findAllLeaderboardCompleteParticipantEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view) {
         List<Event> eventResults = null;
+        EventPage eventPage = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             if(StringUtils.isEmpty(email) || StringUtils.isBlank(email)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
-            eventResults = service.findAllLeaderboardCompleteParticipantEvents(email);
+            eventPage = service.findAllLeaderboardCompleteParticipantEvents(email, limit, cursor, view);
+            eventResults = eventPage.getEvents();
         } catch (DataBaseOperationException | MapperException | ValidationException exception) {
             eventResults = new ArrayList<>();
             Event event = new Event();
@@ -361,16 +344,14 @@ public class EventController {
             eventResults.add(event);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(eventResults);
         }
-        isRetryEnabled = false;
         if(eventResults == null) {
             eventResults = new ArrayList<>();
         }
-        return ResponseEntity.status(HttpStatus.OK).body(eventResults);
+        return withNextCursor(ResponseEntity.status(HttpStatus.OK), eventPage).body(eventResults);
     }
 
-    public ResponseEntity<List<Event>> findAllLeaderboardCompleteParticipantEventsDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+    public ResponseEntity<List<Event>> findAllLeaderboardCompleteParticipantEventsDbRetry(String email, Integer limit, String cursor, String view, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event event = new Event();
         event.setMessage(StringConstants.FALLBACK_MESSAGE);
         List<Event> eventsResponse = new ArrayList<>();
@@ -387,25 +368,20 @@ public class EventController {
     public ResponseEntity<Leaderboard> findLeaderBoard(@RequestParam Integer eventId, @PathVariable String email) {
         Leaderboard response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.findLeaderboard(eventId, email);
         } catch (ValidationException | MapperException | DataBaseOperationException exception){
             response = new Leaderboard();
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Leaderboard> findLeaderBoardDbRetry(Integer eventId, String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Leaderboard leaderboardResponse = new Leaderboard();
         leaderboardResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(leaderboardResponse);
@@ -417,31 +393,36 @@ public class EventController {
     )
     @GetMapping("/get-document/{eventId}")
     @Retry(name = "find-leaderboard-doc-db-retry", fallbackMethod = "findDocDbRetry")
-    public ResponseEntity<Document> findDoc(@PathVariable Integer eventId) {
-        Document response = null;
-        try{
-            if(isRetryEnabled){
-                LOGGER.info(StringConstants.RETRY_MESSAGE);
-            }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
-            response = service.findLeaderboardDocument(eventId);
-        } catch (ValidationException | MapperException | DataBaseOperationException | IOException exception){
-            response = new Document();
-            response.setMessage(exception.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    public CompletableFuture<ResponseEntity<Document>> findDoc(@PathVariable Integer eventId) {
+        if(RetryContext.current().isRetry()){
+            LOGGER.info(StringConstants.RETRY_MESSAGE);
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(response);
-    }
-
-    public ResponseEntity<Document> findDocDbRetry(Integer eventId, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        if(eventId == null) {
+            Document response = new Document();
+            response.setMessage(StringConstants.VALIDATION_ERROR);
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+        }
+        return leaderboardDocumentCache.get(eventId)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.OK)
+                        .cacheControl(leaderboardDocumentCache.getCacheControl())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(response))
+                .exceptionally(throwable -> {
+                    Throwable exception = FutureUtils.unwrap(throwable);
+                    if(exception instanceof ValidationException || exception instanceof MapperException || exception instanceof DataBaseOperationException || exception instanceof IOException) {
+                        Document response = new Document();
+                        response.setMessage(exception.getMessage());
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
+    }
+
+    public CompletableFuture<ResponseEntity<Document>> findDocDbRetry(Integer eventId, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Document documentResponse = new Document();
         documentResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
-        return ResponseEntity.status(HttpStatus.OK).body(documentResponse);
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(documentResponse));
     }
 
     @Operation(
@@ -453,12 +434,9 @@ public class EventController {
     public ResponseEntity<Event> saveOrUpdateEvent(@RequestBody Event event, @RequestParam boolean isCreate, @RequestParam boolean isUpdate) {
         Event response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveOrUpdateEvent(event, isCreate, isUpdate);
             // TODO: Send email to organizer that successfully created an event. Wait for approval
         } catch (ValidationException | MapperException | DataBaseOperationException exception){
@@ -468,13 +446,11 @@ public class EventController {
             event.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(event);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<Event> saveOrUpdateEventDbRetry(Event event, boolean isCreate, boolean isUpdate, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event eventResponse = new Event();
         eventResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(eventResponse);
@@ -486,31 +462,28 @@ public class EventController {
     )
     @GetMapping("/get-event/{name}")
     @Retry(name = "get-event-db-retry", fallbackMethod = "getEventDbRetry")
-    public ResponseEntity<Event> getEvent(@PathVariable String name) {
-        Event response = null;
-        try{
-            if(isRetryEnabled){
-                LOGGER.info(StringConstants.RETRY_MESSAGE);
-            }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
-            response = service.getEvent(name);
-        } catch (ValidationException | MapperException | DataBaseOperationException exception){
-            response = new Event();
-            response.setMessage(exception.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    public CompletableFuture<ResponseEntity<Event>> getEvent(@PathVariable String name) {
+        if(RetryContext.current().isRetry()){
+            LOGGER.info(StringConstants.RETRY_MESSAGE);
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(response);
-    }
-
-    public ResponseEntity<Event> getEventDbRetry(String name, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        return service.getEventAsync(name)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.OK).eTag(ETags.strong(response)).body(response))
+                .exceptionally(throwable -> {
+                    Throwable exception = FutureUtils.unwrap(throwable);
+                    if(exception instanceof ValidationException || exception instanceof MapperException || exception instanceof DataBaseOperationException) {
+                        Event response = new Event();
+                        response.setMessage(exception.getMessage());
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
+    }
+
+    public CompletableFuture<ResponseEntity<Event>> getEventDbRetry(String name, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Event eventResponse = new Event();
         eventResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
-        return ResponseEntity.status(HttpStatus.OK).body(eventResponse);
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(eventResponse));
     }
 
     @Operation(
@@ -522,23 +495,18 @@ public class EventController {
     public ResponseEntity<Integer> getEventId(@PathVariable String name) {
         Integer response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.getEventId(name);
         } catch (ValidationException exception){
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Integer> getEventIdDbRetry(String name, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         return ResponseEntity.status(HttpStatus.OK).body(null);
     }
 
@@ -551,23 +519,18 @@ public class EventController {
     public ResponseEntity<Boolean> isRegisteredInEvent(@RequestParam Integer eventId, @RequestParam String eventName, @RequestParam String email) {
         Boolean response = false;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.isRegisteredInEvent(eventId, eventName, email);
         } catch (ValidationException exception) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Boolean> isRegisteredInEventDbRetry(Integer eventId, String eventName, String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         return ResponseEntity.status(HttpStatus.OK).body(false);
     }
 
@@ -580,23 +543,18 @@ public class EventController {
     public ResponseEntity<List<ProfileDetail>> getTeamDetailsForEvent(@RequestParam Integer eventId, @RequestParam String eventName, @RequestParam String email) {
         List<ProfileDetail> response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.getTeamDetailsForEvent(eventId, eventName, email);
         } catch (ValidationException exception) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<List<ProfileDetail>> getTeamDetailsForEventDbRetry(Integer eventId, String eventName, String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         ProfileDetail profileDetail = new ProfileDetail();
         profileDetail.setMessage(StringConstants.FALLBACK_MESSAGE);
         List<ProfileDetail> profileDetails = new ArrayList<>();
@@ -613,25 +571,20 @@ public class EventController {
     public ResponseEntity<Team> getTeamWithEventIDAndEmail(@RequestParam Integer eventId, @RequestParam String eventName, @RequestParam String email) {
         Team response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.getTeamWithEventIDAndEmail(eventId, eventName, email);
         } catch (ValidationException exception) {
             Team team = new Team();
             team.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Team> getTeamWithEventIDAndEmailDbRetry(Integer eventId, String eventName, String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Team team = new Team();
         team.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(team);
@@ -646,23 +599,18 @@ public class EventController {
     public ResponseEntity<Integer> remainingPlayersPerSlotCount(@RequestParam Integer eventId, @RequestParam String eventName, @RequestParam String email) {
         Integer response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.remainingPlayersPerSlotCount(eventId, eventName, email);
         } catch (ValidationException exception) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Integer> remainingPlayersPerSlotCountDbRetry(Integer eventId, String eventName, String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         return ResponseEntity.status(HttpStatus.OK).body(0);
     }
 
@@ -672,31 +620,29 @@ public class EventController {
     )
     @GetMapping("/get-teams-with-count")
     @Retry(name = "get-teams-with-count-db-retry", fallbackMethod = "getTeamsWithCountDbRetry")
-    public ResponseEntity<List<TeamWithCount>> getTeamsWithCount(@RequestParam Integer eventId, @RequestParam String eventName) {
-        List<TeamWithCount> response = null;
-        try {
-            if(isRetryEnabled){
-                LOGGER.info(StringConstants.RETRY_MESSAGE);
-            }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
-            response = service.getTeamsWithCount(eventId, eventName);
-        } catch (ValidationException exception) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
-        if(response == null) {
-            response = new ArrayList<>();
+    public CompletableFuture<ResponseEntity<List<TeamWithCount>>> getTeamsWithCount(@RequestParam Integer eventId, @RequestParam String eventName) {
+        if(RetryContext.current().isRetry()){
+            LOGGER.info(StringConstants.RETRY_MESSAGE);
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(response);
-    }
-
-    public ResponseEntity<List<TeamWithCount>> getTeamsWithCountDbRetry(@RequestParam Integer eventId, @RequestParam String eventName, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        return service.getTeamsWithCountAsync(eventId, eventName)
+                .thenApply(response -> {
+                    if(response == null) {
+                        response = new ArrayList<>();
+                    }
+                    return ResponseEntity.status(HttpStatus.OK).eTag(ETags.strong(response)).body(response);
+                })
+                .exceptionally(throwable -> {
+                    if(FutureUtils.unwrap(throwable) instanceof ValidationException) {
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
+    }
+
+    public CompletableFuture<ResponseEntity<List<TeamWithCount>>> getTeamsWithCountDbRetry(@RequestParam Integer eventId, @RequestParam String eventName, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         List<TeamWithCount> teamWithCounts = new ArrayList<>();
-        return ResponseEntity.status(HttpStatus.OK).body(teamWithCounts);
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(teamWithCounts));
     }
 
     @Operation(
@@ -708,12 +654,9 @@ public class EventController {
     public ResponseEntity<List<TeamWithID>> getTeamsWithID(@RequestParam Integer eventId) {
         List<TeamWithID> response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.getTeamsWithIDs(eventId);
         } catch (ValidationException exception) {
             response = new ArrayList<>();
@@ -722,13 +665,11 @@ public class EventController {
         if(response == null) {
             response = new ArrayList<>();
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<List<TeamWithID>> getTeamsWithIDDbRetry(@RequestParam Integer eventId, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         List<TeamWithID> teamWithIDs = new ArrayList<>();
         return ResponseEntity.status(HttpStatus.OK).body(teamWithIDs);
     }
@@ -742,26 +683,22 @@ public class EventController {
     public ResponseEntity<Leaderboard> saveLeaderboard(@RequestBody Leaderboard leaderboard) {
         Leaderboard response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveLeaderboard(leaderboard);
+            teamsWithPointsCache.invalidate(leaderboard.getEventId());
             // TODO: send email to organizer as leaderboard data has been saved for a particular event
         } catch (ValidationException | MapperException | DataBaseOperationException exception){
             response = new Leaderboard();
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<Leaderboard> saveLeaderboardDbRetry(Leaderboard leaderboard, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Leaderboard leaderboardResponse = new Leaderboard();
         leaderboardResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(leaderboardResponse);
@@ -776,25 +713,21 @@ public class EventController {
     public ResponseEntity<Leaderboard> saveLeaderboardDocument(@RequestPart MultipartFile doc, @PathVariable Integer eventId) {
         Leaderboard response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveLeaderboardDocument(doc, eventId);
+            leaderboardDocumentCache.invalidate(eventId);
         } catch (ValidationException | MapperException | DataBaseOperationException | IOException exception){
             response = new Leaderboard();
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<Leaderboard> saveLeaderboardDocumentDbRetry(MultipartFile doc, Integer eventId, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Leaderboard leaderboardResponse = new Leaderboard();
         leaderboardResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(leaderboardResponse);
@@ -809,23 +742,18 @@ public class EventController {
     public ResponseEntity<Boolean> isLeaderboardComplete(@PathVariable Integer eventId) {
         boolean isLeaderboardComplete = false;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             isLeaderboardComplete = service.isLeaderboardComplete(eventId);
         } catch (ValidationException exception) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(isLeaderboardComplete);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(isLeaderboardComplete);
     }
 
     public ResponseEntity<Boolean> isLeaderboardCompleteDbRetry(Integer eventId, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         return ResponseEntity.status(HttpStatus.OK).body(false);
     }
 
@@ -837,23 +765,18 @@ public class EventController {
     @Retry(name = "generate-excel-db-retry", fallbackMethod = "generateExcelDbRetry")
     public ResponseEntity<byte[]> generateExcel(@PathVariable Integer eventId) {
         byte[] response = null;
-        if(isRetryEnabled){
+        if(RetryContext.current().isRetry()){
             LOGGER.info(StringConstants.RETRY_MESSAGE);
         }
-        if(!isRetryEnabled){
-            isRetryEnabled = true;
-        }
         response = service.generateExcelSheetForTeams(eventId);
         if (response == null) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<byte[]> generateExcelDbRetry(Integer eventId, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         return ResponseEntity.status(HttpStatus.OK).body(null);
     }
 
@@ -863,30 +786,29 @@ public class EventController {
     )
     @GetMapping("/get-teams-with-points/{eventId}")
     @Retry(name = "get-teams-with-points-db-retry", fallbackMethod = "findTeamsWithPointsDbRetry")
-    public ResponseEntity<List<TeamWithPoints>> findTeamsWithPoints(@PathVariable Integer eventId) {
-        List<TeamWithPoints> teamWithPoints = null;
-        try {
-            if(isRetryEnabled){
-                LOGGER.info(StringConstants.RETRY_MESSAGE);
-            }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
-            if(eventId == null) {
-                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
-            }
-            teamWithPoints = service.findTeamsWithPoints(eventId);
-        } catch (ValidationException exception) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(teamWithPoints);
+    public CompletableFuture<ResponseEntity<List<TeamWithPoints>>> findTeamsWithPoints(@PathVariable Integer eventId) {
+        if(RetryContext.current().isRetry()){
+            LOGGER.info(StringConstants.RETRY_MESSAGE);
+        }
+        if(eventId == null) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
         }
-        isRetryEnabled = false;
-        return ResponseEntity.status(HttpStatus.OK).body(teamWithPoints);
+        return teamsWithPointsCache.get(eventId)
+                .thenApply(teamWithPoints -> ResponseEntity.status(HttpStatus.OK)
+                        .cacheControl(teamsWithPointsCache.getCacheControl())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(teamWithPoints))
+                .exceptionally(throwable -> {
+                    if(FutureUtils.unwrap(throwable) instanceof ValidationException) {
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
     }
 
-    public ResponseEntity<List<TeamWithPoints>> findTeamsWithPointsDbRetry(Integer eventId, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
-        return ResponseEntity.status(HttpStatus.OK).body(null);
+    public CompletableFuture<ResponseEntity<List<TeamWithPoints>>> findTeamsWithPointsDbRetry(Integer eventId, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(null));
     }
 
     @Operation(
@@ -898,12 +820,9 @@ public class EventController {
     public ResponseEntity<Viewer> saveViewer(@RequestBody Viewer viewer) {
         Viewer response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveViewer(viewer);
             // TODO: send email to viewer that he/she marked as viewer for the particular event
         } catch (ValidationException | MapperException | DataBaseOperationException exception){
@@ -911,13 +830,11 @@ public class EventController {
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<Viewer> saveViewerDbRetry(Viewer viewer, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Viewer viewerResponse = new Viewer();
         viewerResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(viewerResponse);
@@ -932,27 +849,119 @@ public class EventController {
     public ResponseEntity<Viewer> isViewer(@RequestParam String email, @RequestParam Integer eventId) {
         Viewer response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.isViewer(email, eventId);
         } catch (ValidationException | DataBaseOperationException exception){
             response = new Viewer();
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Viewer> isViewerDbRetry(String email, Integer eventId, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Viewer viewerResponse = new Viewer();
         viewerResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(viewerResponse);
     }
+
+    @Operation(
+            summary = "Get registration statuses",
+            description = "Get registration, team and viewer status of a user for a list of event ids in a single request, keyed by event id."
+    )
+    @PostMapping("/get-registration-statuses")
+    @Retry(name = "get-registration-statuses-db-retry", fallbackMethod = "getRegistrationStatusesDbRetry")
+    public ResponseEntity<Map<Integer, RegistrationStatus>> getRegistrationStatuses(@RequestParam String email, @RequestBody List<Integer> eventIds) {
+        Map<Integer, RegistrationStatus> response = null;
+        try {
+            if(RetryContext.current().isRetry()){
+                LOGGER.info(StringConstants.RETRY_MESSAGE);
+            }
+            response = service.getRegistrationStatuses(email, eventIds);
+        } catch (ValidationException | MapperException | DataBaseOperationException exception) {
+            LOGGER.error("Exception occurred in EventController.class : getRegistrationStatuses", exception);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new HashMap<>());
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    public ResponseEntity<Map<Integer, RegistrationStatus>> getRegistrationStatusesDbRetry(String email, List<Integer> eventIds, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        return ResponseEntity.status(HttpStatus.OK).body(new HashMap<>());
+    }
+
+    // NDJSON variants of the list endpoints under /stream, records are written as they are decoded from DATABASE-SERVICE.
+    // There is no @Retry on them, a retry after the first record would repeat records
+    @Operation(
+            summary = "Stream upcoming events",
+            description = "Stream upcoming events as newline delimited JSON, one record per line."
+    )
+    @GetMapping(value = "/stream/get-upcoming-events/{email}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Event> streamUpcomingEvents(@PathVariable String email) {
+        return service.streamUpcomingEvents(email);
+    }
+
+    @Operation(
+            summary = "Stream upcoming events for an organizer",
+            description = "Stream upcoming events for an organizer as newline delimited JSON, one record per line."
+    )
+    @GetMapping(value = "/stream/get-upcoming-organizer-events/{email}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Event> streamAllUpcomingOrganizerEvents(@PathVariable String email) {
+        return service.streamAllUpcomingOrganizerEvents(email);
+    }
+
+    @Operation(
+            summary = "Stream completed events for an organizer",
+            description = "Stream completed events for an organizer as newline delimited JSON, one record per line."
+    )
+    @GetMapping(value = "/stream/get-completed-events-organizer/{email}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Event> streamAllLeaderboardCompleteOrganizerEvents(@PathVariable String email) {
+        return service.streamAllLeaderboardCompleteOrganizerEvents(email);
+    }
+
+    @Operation(
+            summary = "Stream only active organizer events",
+            description = "Stream only active organizer events as newline delimited JSON, one record per line."
+    )
+    @GetMapping(value = "/stream/get-only-active-events-organizer/{email}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Event> streamOnlyActiveOrganizerEvents(@PathVariable String email) {
+        return service.streamOnlyActiveOrganizerEvents(email);
+    }
+
+    @Operation(
+            summary = "Stream completed events for an participant",
+            description = "Stream completed events for an participant as newline delimited JSON, one record per line."
+    )
+    @GetMapping(value = "/stream/get-completed-events-participant/{email}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Event> streamAllLeaderboardCompleteParticipantEvents(@PathVariable String email) {
+        return service.streamAllLeaderboardCompleteParticipantEvents(email);
+    }
+
+    @Operation(
+            summary = "Stream team names with counts",
+            description = "Stream team names with counts as newline delimited JSON, one record per line."
+    )
+    @GetMapping(value = "/stream/get-teams-with-count", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TeamWithCount> streamTeamsWithCount(@RequestParam Integer eventId, @RequestParam String eventName) {
+        return service.streamTeamsWithCount(eventId, eventName);
+    }
+
+    @Operation(
+            summary = "Stream teams with points",
+            description = "Stream teams with points as newline delimited JSON, one record per line."
+    )
+    @GetMapping(value = "/stream/get-teams-with-points/{eventId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TeamWithPoints> streamTeamsWithPoints(@PathVariable Integer eventId) {
+        return service.streamTeamsWithPoints(eventId);
+    }
+
+    private ResponseEntity.BodyBuilder withNextCursor(ResponseEntity.BodyBuilder builder, EventPage eventPage) {
+        if(eventPage != null && eventPage.getNextCursor() != null) {
+            builder.header(EventCursor.NEXT_CURSOR_HEADER, eventPage.getNextCursor());
+        }
+        return builder;
+    }
 }
@@ -1,23 +1,29 @@
 package com.esportarena.microservices.esportsarenaapi.controllers;
 
+import com.esportarena.microservices.esportsarenaapi.configurations.ResponseCacheConfig;
 import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
 import com.esportarena.microservices.esportsarenaapi.models.Game;
 import com.esportarena.microservices.esportsarenaapi.models.InterestedGame;
 import com.esportarena.microservices.esportsarenaapi.services.GameService;
+import com.esportarena.microservices.esportsarenaapi.utilities.ETags;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import com.esportarena.microservices.esportsarenaapi.utilities.StaleWhileRevalidateCache;
 import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Game", description = "Game management APIs")
 @RestController
@@ -28,6 +34,8 @@ public class GameController {
 
     @Autowired
     private GameService service;
+    @Autowired
+    private StaleWhileRevalidateCache<String, List<Game>> activeGamesCache;
 
     @Operation(
             summary = "Save or Update game",
@@ -40,6 +48,7 @@ public class GameController {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
             service.saveOrUpdateGame(game);
+            activeGamesCache.invalidateAll();
             game.setMessage(StringConstants.REQUEST_PROCESSED);
         } catch (MapperException | DataBaseOperationException | ValidationException exception) {
             game.setMessage(exception.getMessage());
@@ -53,24 +62,32 @@ public class GameController {
             description = "Get all active games with a message which defines whether the request is successful or not."
     )
     @GetMapping("/get-active-games")
-    public ResponseEntity<List<Game>> findAllActiveGames() {
-        List<Game> activeGames = null;
-        try {
-            activeGames = service.findAllActiveGames();
-            if(activeGames == null) {
-                Game game = new Game();
-                game.setMessage(StringConstants.NO_ACTIVE_GAMES);
-                activeGames = new ArrayList<>();
-                activeGames.add(game);
-            }
-        } catch (MapperException | DataBaseOperationException exception) {
-            activeGames = new ArrayList<>();
-            Game game = new Game();
-            game.setMessage(exception.getMessage());
-            activeGames.add(game);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(activeGames);
-        }
-        return ResponseEntity.status(HttpStatus.OK).body(activeGames);
+    public CompletableFuture<ResponseEntity<List<Game>>> findAllActiveGames() {
+        return activeGamesCache.get(ResponseCacheConfig.ACTIVE_GAMES_KEY)
+                .thenApply(activeGames -> {
+                    if(activeGames == null) {
+                        Game game = new Game();
+                        game.setMessage(StringConstants.NO_ACTIVE_GAMES);
+                        activeGames = new ArrayList<>();
+                        activeGames.add(game);
+                    }
+                    return ResponseEntity.status(HttpStatus.OK)
+                            .cacheControl(activeGamesCache.getCacheControl())
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .eTag(ETags.strong(activeGames))
+                            .body(activeGames);
+                })
+                .exceptionally(throwable -> {
+                    Throwable exception = FutureUtils.unwrap(throwable);
+                    if(exception instanceof MapperException || exception instanceof DataBaseOperationException) {
+                        List<Game> activeGames = new ArrayList<>();
+                        Game game = new Game();
+                        game.setMessage(exception.getMessage());
+                        activeGames.add(game);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(activeGames);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
     }
 
     @Operation(
@@ -5,6 +5,8 @@ import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
 import com.esportarena.microservices.esportsarenaapi.models.*;
 import com.esportarena.microservices.esportsarenaapi.services.ProfileService;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
 import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +22,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
@@ -29,7 +35,6 @@ import static org.springframework.web.bind.annotation.RequestMethod.POST;
 public class ProfileController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ProfileController.class);
-    private boolean isRetryEnabled = false;
     @Autowired
     private ProfileService service;
 
@@ -42,12 +47,9 @@ public class ProfileController {
     public ResponseEntity<ProfileDetail> saveOrUpdateProfileDetails(@RequestBody ProfileDetail details) {
         ProfileDetail response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveOrUpdateProfileDetails(details);
             // TODO: Send email to client that successfully saved profile
         } catch (ValidationException | MapperException | DataBaseOperationException exception){
@@ -57,13 +59,11 @@ public class ProfileController {
             details.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(details);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<ProfileDetail> saveOrUpdateProfileDetailsDbRetry(ProfileDetail details, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         ProfileDetail detailResponse = new ProfileDetail();
         detailResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(detailResponse);
@@ -75,31 +75,53 @@ public class ProfileController {
     )
     @GetMapping("/get-profile/{email}")
     @Retry(name = "get-profile-details-db-retry", fallbackMethod = "getProfileDetailsDbRetry")
-    public ResponseEntity<ProfileDetail> getProfileDetails(@PathVariable String email) {
-        ProfileDetail response = null;
+    public CompletableFuture<ResponseEntity<ProfileDetail>> getProfileDetails(@PathVariable String email) {
+        if(RetryContext.current().isRetry()){
+            LOGGER.info(StringConstants.RETRY_MESSAGE);
+        }
+        return service.getProfileDetailsAsync(email)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+                .exceptionally(throwable -> {
+                    Throwable exception = FutureUtils.unwrap(throwable);
+                    if(exception instanceof ValidationException || exception instanceof MapperException || exception instanceof DataBaseOperationException) {
+                        ProfileDetail response = new ProfileDetail();
+                        response.setMessage(exception.getMessage());
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                    }
+                    throw FutureUtils.wrap(throwable);
+                });
+    }
+
+    public CompletableFuture<ResponseEntity<ProfileDetail>> getProfileDetailsDbRetry(String email, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        ProfileDetail detailResponse = new ProfileDetail();
+        detailResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(detailResponse));
+    }
+
+    @Operation(
+            summary = "Get profiles",
+            description = "Get profiles for a list of emails in a single request, keyed by email."
+    )
+    @PostMapping("/get-profiles")
+    @Retry(name = "get-profiles-db-retry", fallbackMethod = "getProfileDetailsInBulkDbRetry")
+    public ResponseEntity<Map<String, ProfileDetail>> getProfileDetailsInBulk(@RequestBody List<String> emails) {
+        Map<String, ProfileDetail> response = null;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
-            response = service.getProfileDetails(email);
+            response = service.getProfileDetails(emails);
         } catch (ValidationException | MapperException | DataBaseOperationException exception) {
-            response = new ProfileDetail();
-            response.setMessage(exception.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            LOGGER.error("Exception occurred in ProfileController.class : getProfileDetailsInBulk", exception);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new HashMap<>());
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
-    public ResponseEntity<ProfileDetail> getProfileDetailsDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
-        ProfileDetail detailResponse = new ProfileDetail();
-        detailResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
-        return ResponseEntity.status(HttpStatus.OK).body(detailResponse);
+    public ResponseEntity<Map<String, ProfileDetail>> getProfileDetailsInBulkDbRetry(List<String> emails, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        return ResponseEntity.status(HttpStatus.OK).body(new HashMap<>());
     }
 
     @Operation(
@@ -111,23 +133,18 @@ public class ProfileController {
     public ResponseEntity<Boolean> isProfilePresent(@PathVariable String email) {
         boolean response = false;
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.isProfilePresent(email);
         } catch (ValidationException exception) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Boolean> isProfilePresentDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         return ResponseEntity.status(HttpStatus.OK).body(false);
     }
 
@@ -140,12 +157,9 @@ public class ProfileController {
     public ResponseEntity<ProfileCompletionStatus> isProfileComplete(@PathVariable String email) {
         ProfileCompletionStatus response = new ProfileCompletionStatus();
         try{
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             boolean isProfileComplete = service.isProfileComplete(email);
             response.setProfileComplete(isProfileComplete);
             response.setMessage(StringConstants.REQUEST_PROCESSED);
@@ -154,13 +168,11 @@ public class ProfileController {
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<ProfileCompletionStatus> isProfileCompleteDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         ProfileCompletionStatus response = new ProfileCompletionStatus();
         response.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -175,25 +187,20 @@ public class ProfileController {
     public ResponseEntity<Partner> saveOrUpdatePartner(@RequestBody Partner partner) {
         Partner response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveOrUpdatePartner(partner);
         } catch (ValidationException | MapperException | DataBaseOperationException | FileNotFoundException exception) {
             response = new Partner();
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<Partner> saveOrUpdatePartnerDbRetry(Partner partner, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Partner partnerResponse = new Partner();
         partnerResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(partnerResponse);
@@ -208,12 +215,9 @@ public class ProfileController {
     public ResponseEntity<Partner> findPartner(@PathVariable String email) {
         Partner response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.findPartner(email);
             if(response.getMessage().equals(StringConstants.EMAIL_NOT_PRESENT)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -223,13 +227,11 @@ public class ProfileController {
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Partner> findPartner(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Partner partnerResponse = new Partner();
         partnerResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(partnerResponse);
@@ -244,12 +246,9 @@ public class ProfileController {
     public ResponseEntity<Partner> saveDocuments(@RequestPart MultipartFile image, @RequestPart MultipartFile doc, @PathVariable String email) {
         Partner response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.saveDocument(image, doc, email);
             if(response.getMessage().equals(StringConstants.EMAIL_NOT_PRESENT)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -259,13 +258,11 @@ public class ProfileController {
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     public ResponseEntity<Partner> saveDocumentsDbRetry(MultipartFile image, MultipartFile doc, String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Partner partnerResponse = new Partner();
         partnerResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(partnerResponse);
@@ -280,12 +277,9 @@ public class ProfileController {
     public ResponseEntity<Document> findLogo(@PathVariable String email) {
         Document response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.getLogo(email);
             if(response.getMessage().equals(StringConstants.EMAIL_NOT_PRESENT)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -295,13 +289,11 @@ public class ProfileController {
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Document> findLogoDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Document documentResponse = new Document();
         documentResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(documentResponse);
@@ -316,12 +308,9 @@ public class ProfileController {
     public ResponseEntity<Document> findDoc(@PathVariable String email) {
         Document response = null;
         try {
-            if(isRetryEnabled){
+            if(RetryContext.current().isRetry()){
                 LOGGER.info(StringConstants.RETRY_MESSAGE);
             }
-            if(!isRetryEnabled){
-                isRetryEnabled = true;
-            }
             response = service.getDocument(email);
             if(response.getMessage().equals(StringConstants.EMAIL_NOT_PRESENT)) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -331,13 +320,11 @@ public class ProfileController {
             response.setMessage(exception.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-        isRetryEnabled = false;
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     public ResponseEntity<Document> findDocDbRetry(String email, Exception exception) {
-        isRetryEnabled = false;
-        LOGGER.info(StringConstants.FALLBACK_MESSAGE, exception);
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
         Document documentResponse = new Document();
         documentResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
         return ResponseEntity.status(HttpStatus.OK).body(documentResponse);
@@ -0,0 +1,141 @@
+package com.esportarena.microservices.esportsarenaapi.controllers;
+
+import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
+import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
+import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
+import com.esportarena.microservices.esportsarenaapi.models.*;
+import com.esportarena.microservices.esportsarenaapi.services.EventService;
+import com.esportarena.microservices.esportsarenaapi.utilities.EventCursor;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
+import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Tag(name = "Reactive Event", description = "Non-blocking event read APIs")
+@RestController
+@RequestMapping("/reactive/events")
+public class ReactiveEventController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveEventController.class);
+    @Autowired
+    private EventService service;
+
+    @Operation(
+            summary = "Find upcoming events",
+            description = "Non-blocking variant of /events/get-upcoming-events/{email}."
+    )
+    @GetMapping("/get-upcoming-events/{email}")
+    @Retry(name = "find-upcoming-events-db-retry", fallbackMethod = "findUpcomingEventsDbRetry")
+    public Mono<ResponseEntity<List<Event>>> findUpcomingEvents(@PathVariable String email, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, @RequestParam(required = false) String view) {
+        return service.findUpcomingEventsReactive(email, limit, cursor, view)
+                .defaultIfEmpty(new EventPage(new ArrayList<>(), null))
+                .map(eventPage -> {
+                    List<Event> response = eventPage.getEvents();
+                    if(response == null) {
+                        response = new ArrayList<>();
+                    }
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK);
+                    if(eventPage.getNextCursor() != null) {
+                        builder.header(EventCursor.NEXT_CURSOR_HEADER, eventPage.getNextCursor());
+                    }
+                    return builder.body(response);
+                })
+                .onErrorResume(this::isServiceException, throwable -> {
+                    List<Event> response = new ArrayList<>();
+                    Event event = new Event();
+                    event.setMessage(FutureUtils.unwrap(throwable).getMessage());
+                    response.add(event);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+                });
+    }
+
+    public Mono<ResponseEntity<List<Event>>> findUpcomingEventsDbRetry(String email, Integer limit, String cursor, String view, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        Event event = new Event();
+        event.setMessage(StringConstants.FALLBACK_MESSAGE);
+        List<Event> eventsResponse = new ArrayList<>();
+        eventsResponse.add(event);
+        return Mono.just(ResponseEntity.status(HttpStatus.OK).body(eventsResponse));
+    }
+
+    @Operation(
+            summary = "Get team names with counts",
+            description = "Non-blocking variant of /events/get-teams-with-count."
+    )
+    @GetMapping("/get-teams-with-count")
+    @Retry(name = "get-teams-with-count-db-retry", fallbackMethod = "getTeamsWithCountDbRetry")
+    public Mono<ResponseEntity<List<TeamWithCount>>> getTeamsWithCount(@RequestParam Integer eventId, @RequestParam String eventName) {
+        return service.getTeamsWithCountReactive(eventId, eventName)
+                .defaultIfEmpty(new ArrayList<>())
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+                .onErrorResume(throwable -> FutureUtils.unwrap(throwable) instanceof ValidationException,
+                        throwable -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null)));
+    }
+
+    public Mono<ResponseEntity<List<TeamWithCount>>> getTeamsWithCountDbRetry(Integer eventId, String eventName, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        return Mono.just(ResponseEntity.status(HttpStatus.OK).body(new ArrayList<>()));
+    }
+
+    @Operation(
+            summary = "Get Teams with points",
+            description = "Non-blocking variant of /events/get-teams-with-points/{eventId}."
+    )
+    @GetMapping("/get-teams-with-points/{eventId}")
+    @Retry(name = "get-teams-with-points-db-retry", fallbackMethod = "findTeamsWithPointsDbRetry")
+    public Mono<ResponseEntity<List<TeamWithPoints>>> findTeamsWithPoints(@PathVariable Integer eventId) {
+        if(eventId == null) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+        return service.findTeamsWithPointsReactive(eventId)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.OK).body(null))
+                .onErrorResume(throwable -> FutureUtils.unwrap(throwable) instanceof ValidationException,
+                        throwable -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null)));
+    }
+
+    public Mono<ResponseEntity<List<TeamWithPoints>>> findTeamsWithPointsDbRetry(Integer eventId, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        return Mono.just(ResponseEntity.status(HttpStatus.OK).body(null));
+    }
+
+    @Operation(
+            summary = "Get leaderboard",
+            description = "Non-blocking variant of /events/get-leaderboard/{email}."
+    )
+    @GetMapping("/get-leaderboard/{email}")
+    @Retry(name = "find-leaderboard-db-retry", fallbackMethod = "findLeaderBoardDbRetry")
+    public Mono<ResponseEntity<Leaderboard>> findLeaderBoard(@RequestParam Integer eventId, @PathVariable String email) {
+        return service.findLeaderboardReactive(eventId, email)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+                .onErrorResume(this::isServiceException, throwable -> {
+                    Leaderboard response = new Leaderboard();
+                    response.setMessage(FutureUtils.unwrap(throwable).getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+                });
+    }
+
+    public Mono<ResponseEntity<Leaderboard>> findLeaderBoardDbRetry(Integer eventId, String email, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        Leaderboard leaderboardResponse = new Leaderboard();
+        leaderboardResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
+        return Mono.just(ResponseEntity.status(HttpStatus.OK).body(leaderboardResponse));
+    }
+
+    private boolean isServiceException(Throwable throwable) {
+        Throwable exception = FutureUtils.unwrap(throwable);
+        return exception instanceof ValidationException || exception instanceof MapperException || exception instanceof DataBaseOperationException;
+    }
+}
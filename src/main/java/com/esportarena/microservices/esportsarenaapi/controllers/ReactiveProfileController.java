@@ -0,0 +1,59 @@
+package com.esportarena.microservices.esportsarenaapi.controllers;
+
+import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
+import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
+import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
+import com.esportarena.microservices.esportsarenaapi.models.ProfileDetail;
+import com.esportarena.microservices.esportsarenaapi.services.ProfileService;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import com.esportarena.microservices.esportsarenaapi.utilities.RetryContext;
+import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Reactive Profile", description = "Non-blocking profile read APIs")
+@RestController
+@RequestMapping("/reactive/profile")
+public class ReactiveProfileController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveProfileController.class);
+    @Autowired
+    private ProfileService service;
+
+    @Operation(
+            summary = "Get profile",
+            description = "Non-blocking variant of /profile/get-profile/{email}."
+    )
+    @GetMapping("/get-profile/{email}")
+    @Retry(name = "get-profile-details-db-retry", fallbackMethod = "getProfileDetailsDbRetry")
+    public Mono<ResponseEntity<ProfileDetail>> getProfileDetails(@PathVariable String email) {
+        return service.getProfileDetailsReactive(email)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+                .onErrorResume(throwable -> {
+                    Throwable exception = FutureUtils.unwrap(throwable);
+                    return exception instanceof ValidationException || exception instanceof MapperException || exception instanceof DataBaseOperationException;
+                }, throwable -> {
+                    ProfileDetail response = new ProfileDetail();
+                    response.setMessage(FutureUtils.unwrap(throwable).getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+                });
+    }
+
+    public Mono<ResponseEntity<ProfileDetail>> getProfileDetailsDbRetry(String email, Exception exception) {
+        LOGGER.info(StringConstants.FALLBACK_RETRY_MESSAGE, RetryContext.current(), exception);
+        ProfileDetail detailResponse = new ProfileDetail();
+        detailResponse.setMessage(StringConstants.FALLBACK_MESSAGE);
+        return Mono.just(ResponseEntity.status(HttpStatus.OK).body(detailResponse));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.enums;
+
+import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
+import com.esportarena.microservices.esportsarenaapi.models.EventViews;
+import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
+
+public enum EventProjection {
+
+    SUMMARY("summary", EventViews.Summary.class), DETAIL("detail", EventViews.Detail.class);
+
+    private final String value;
+    private final Class<?> view;
+
+    EventProjection(String value, Class<?> view) {
+        this.value = value;
+        this.view = view;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Class<?> getView() {
+        return view;
+    }
+
+    public static EventProjection fromValue(String value) throws ValidationException {
+        if(value == null) {
+            return null;
+        }
+        for(EventProjection projection : values()) {
+            if(projection.value.equalsIgnoreCase(value.trim())) {
+                return projection;
+            }
+        }
+        throw new ValidationException(StringConstants.VALIDATION_ERROR);
+    }
+
+    public static String normalize(String value) throws ValidationException {
+        EventProjection projection = fromValue(value);
+        return projection == null ? null : projection.value;
+    }
+}
@@ -0,0 +1,8 @@
+package com.esportarena.microservices.esportsarenaapi.exceptions;
+
+public class DeadlineExceededException extends RuntimeException{
+
+    public DeadlineExceededException(String message){
+        super(message);
+    }
+}
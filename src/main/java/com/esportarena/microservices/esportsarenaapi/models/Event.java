@@ -8,25 +8,40 @@ package com.esportarena.microservices.esportsarenaapi.models;
 
 import com.esportarena.microservices.esportsarenaapi.enums.EventStatus;
 import com.esportarena.microservices.esportsarenaapi.enums.EventType;
+import com.fasterxml.jackson.annotation.JsonView;
 
 import java.util.List;
 import java.util.Objects;
 
 public class Event {
 
+    @JsonView(EventViews.Summary.class)
     private String name;
+    @JsonView(EventViews.Detail.class)
     private String email;
+    @JsonView(EventViews.Summary.class)
     private String gameName;
+    @JsonView(EventViews.Summary.class)
     private EventStatus status;
+    @JsonView(EventViews.Summary.class)
     private String date;
+    @JsonView(EventViews.Summary.class)
     private String time;
+    @JsonView(EventViews.Detail.class)
     private String duration;
+    @JsonView(EventViews.Detail.class)
     private Integer playersPerSlot;
+    @JsonView(EventViews.Detail.class)
     private Integer slotCount;
+    @JsonView(EventViews.Summary.class)
     private Integer remainingSlots;
+    @JsonView(EventViews.Detail.class)
     private EventType type;
+    @JsonView(EventViews.Detail.class)
     private Float prizePool;
+    @JsonView(EventViews.Detail.class)
     private List<Rule> rules;
+    @JsonView(EventViews.Summary.class)
     private String message;
 
     public Event() {
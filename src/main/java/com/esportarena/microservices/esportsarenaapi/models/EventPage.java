@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.models;
+
+import java.util.List;
+import java.util.Objects;
+
+public class EventPage {
+
+    private List<Event> events;
+    private String nextCursor;
+
+    public EventPage() {
+    }
+
+    public EventPage(List<Event> events, String nextCursor) {
+        this.events = events;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<Event> events) {
+        this.events = events;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventPage eventPage = (EventPage) o;
+        return Objects.equals(events, eventPage.events) && Objects.equals(nextCursor, eventPage.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(events, nextCursor);
+    }
+
+    @Override
+    public String toString() {
+        return "EventPage{" +
+                "events=" + events +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
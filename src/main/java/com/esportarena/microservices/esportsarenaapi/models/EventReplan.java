@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.models;
+
+import java.util.Objects;
+
+public class EventReplan {
+
+    // Grows with every published replan, a replica reads on from the last id it has seen
+    private final long id;
+    private final String eventName;
+
+    public EventReplan(long id, String eventName) {
+        this.id = id;
+        this.eventName = eventName;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventReplan that = (EventReplan) o;
+        return id == that.id && Objects.equals(eventName, that.eventName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, eventName);
+    }
+
+    @Override
+    public String toString() {
+        return "EventReplan{" +
+                "id=" + id +
+                ", eventName='" + eventName + '\'' +
+                '}';
+    }
+}
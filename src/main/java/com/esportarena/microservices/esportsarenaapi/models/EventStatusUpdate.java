@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.models;
+
+import java.util.Objects;
+
+public class EventStatusUpdate {
+
+    private String eventName;
+    private String status;
+    private Boolean updated;
+    private String message;
+
+    public EventStatusUpdate() {
+    }
+
+    public EventStatusUpdate(String eventName, String status, Boolean updated, String message) {
+        this.eventName = eventName;
+        this.status = status;
+        this.updated = updated;
+        this.message = message;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public void setEventName(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Boolean getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(Boolean updated) {
+        this.updated = updated;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventStatusUpdate that = (EventStatusUpdate) o;
+        return Objects.equals(eventName, that.eventName) && Objects.equals(status, that.status) && Objects.equals(updated, that.updated) && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventName, status, updated, message);
+    }
+
+    @Override
+    public String toString() {
+        return "EventStatusUpdate{" +
+                "eventName='" + eventName + '\'' +
+                ", status='" + status + '\'' +
+                ", updated=" + updated +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.models;
+
+// Jackson views behind the summary and detail projections of Event
+public class EventViews {
+
+    public interface Summary {
+    }
+
+    public interface Detail extends Summary {
+    }
+
+    private EventViews(){}
+
+}
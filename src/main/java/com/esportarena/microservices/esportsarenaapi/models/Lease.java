@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.models;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class Lease {
+
+    // Sent with the status writes, the DB service rejects a token lower than the last one it accepted
+    public static final String FENCING_TOKEN_HEADER = "X-Fencing-Token";
+    private final String name;
+    private final String owner;
+    // Grows every time the lease changes hands, a write carrying an older token comes from a replica that lost it
+    private final long token;
+    private final Instant expiresAt;
+
+    public Lease(String name, String owner, long token, Instant expiresAt) {
+        this.name = name;
+        this.owner = owner;
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getToken() {
+        return token;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Lease lease = (Lease) o;
+        return token == lease.token && Objects.equals(name, lease.name) && Objects.equals(owner, lease.owner) && Objects.equals(expiresAt, lease.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, owner, token, expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "Lease{" +
+                "name='" + name + '\'' +
+                ", owner='" + owner + '\'' +
+                ", token=" + token +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
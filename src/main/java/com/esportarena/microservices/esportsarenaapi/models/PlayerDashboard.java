@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class PlayerDashboard {
+
+    private ProfileDetail profile;
+    private Boolean profileComplete;
+    private List<Event> upcomingEvents;
+    private List<Event> interestedGameEvents;
+    private List<InterestedGame> interestedGames;
+    private List<String> failedSections = new ArrayList<>();
+    private String message;
+
+    public PlayerDashboard() {
+    }
+
+    public PlayerDashboard(ProfileDetail profile, Boolean profileComplete, List<Event> upcomingEvents, List<Event> interestedGameEvents, List<InterestedGame> interestedGames, List<String> failedSections, String message) {
+        this.profile = profile;
+        this.profileComplete = profileComplete;
+        this.upcomingEvents = upcomingEvents;
+        this.interestedGameEvents = interestedGameEvents;
+        this.interestedGames = interestedGames;
+        this.failedSections = failedSections;
+        this.message = message;
+    }
+
+    public ProfileDetail getProfile() {
+        return profile;
+    }
+
+    public void setProfile(ProfileDetail profile) {
+        this.profile = profile;
+    }
+
+    public Boolean getProfileComplete() {
+        return profileComplete;
+    }
+
+    public void setProfileComplete(Boolean profileComplete) {
+        this.profileComplete = profileComplete;
+    }
+
+    public List<Event> getUpcomingEvents() {
+        return upcomingEvents;
+    }
+
+    public void setUpcomingEvents(List<Event> upcomingEvents) {
+        this.upcomingEvents = upcomingEvents;
+    }
+
+    public List<Event> getInterestedGameEvents() {
+        return interestedGameEvents;
+    }
+
+    public void setInterestedGameEvents(List<Event> interestedGameEvents) {
+        this.interestedGameEvents = interestedGameEvents;
+    }
+
+    public List<InterestedGame> getInterestedGames() {
+        return interestedGames;
+    }
+
+    public void setInterestedGames(List<InterestedGame> interestedGames) {
+        this.interestedGames = interestedGames;
+    }
+
+    public List<String> getFailedSections() {
+        return failedSections;
+    }
+
+    public void setFailedSections(List<String> failedSections) {
+        this.failedSections = failedSections;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlayerDashboard that = (PlayerDashboard) o;
+        return Objects.equals(profile, that.profile) && Objects.equals(profileComplete, that.profileComplete) && Objects.equals(upcomingEvents, that.upcomingEvents) && Objects.equals(interestedGameEvents, that.interestedGameEvents) && Objects.equals(interestedGames, that.interestedGames) && Objects.equals(failedSections, that.failedSections) && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(profile, profileComplete, upcomingEvents, interestedGameEvents, interestedGames, failedSections, message);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerDashboard{" +
+                "profile=" + profile +
+                ", profileComplete=" + profileComplete +
+                ", upcomingEvents=" + upcomingEvents +
+                ", interestedGameEvents=" + interestedGameEvents +
+                ", interestedGames=" + interestedGames +
+                ", failedSections=" + failedSections +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
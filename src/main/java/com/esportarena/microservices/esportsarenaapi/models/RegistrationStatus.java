@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.models;
+
+import java.util.Objects;
+
+public class RegistrationStatus {
+
+    private Integer eventId;
+    private Boolean registered;
+    private Boolean viewer;
+    private Team team;
+    private String message;
+
+    public RegistrationStatus() {
+    }
+
+    public RegistrationStatus(Integer eventId, Boolean registered, Boolean viewer, Team team, String message) {
+        this.eventId = eventId;
+        this.registered = registered;
+        this.viewer = viewer;
+        this.team = team;
+        this.message = message;
+    }
+
+    public Integer getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Integer eventId) {
+        this.eventId = eventId;
+    }
+
+    public Boolean getRegistered() {
+        return registered;
+    }
+
+    public void setRegistered(Boolean registered) {
+        this.registered = registered;
+    }
+
+    public Boolean getViewer() {
+        return viewer;
+    }
+
+    public void setViewer(Boolean viewer) {
+        this.viewer = viewer;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public void setTeam(Team team) {
+        this.team = team;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RegistrationStatus that = (RegistrationStatus) o;
+        return Objects.equals(eventId, that.eventId) && Objects.equals(registered, that.registered) && Objects.equals(viewer, that.viewer) && Objects.equals(team, that.team) && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, registered, viewer, team, message);
+    }
+
+    @Override
+    public String toString() {
+        return "RegistrationStatus{" +
+                "eventId=" + eventId +
+                ", registered=" + registered +
+                ", viewer=" + viewer +
+                ", team=" + team +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -6,11 +6,13 @@
 
 package com.esportarena.microservices.esportsarenaapi.models;
 
+import com.fasterxml.jackson.annotation.JsonView;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
 
 @Component
+@JsonView(EventViews.Detail.class)
 public class Rule {
 
     private Integer ruleNumber;
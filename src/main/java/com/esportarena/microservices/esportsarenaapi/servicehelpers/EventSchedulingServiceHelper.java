@@ -1,19 +1,28 @@
 package com.esportarena.microservices.esportsarenaapi.servicehelpers;
 
 import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
 import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
 import com.esportarena.microservices.esportsarenaapi.models.Event;
+import com.esportarena.microservices.esportsarenaapi.models.EventStatusUpdate;
+import com.esportarena.microservices.esportsarenaapi.utilities.CacheNames;
 import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
+import feign.FeignException;
 import io.micrometer.common.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class EventSchedulingServiceHelper {
@@ -21,6 +30,10 @@ public class EventSchedulingServiceHelper {
     private static final Logger LOGGER = LoggerFactory.getLogger(EventSchedulingServiceHelper.class);
     @Autowired
     private TheJackFolioDBClient dbClient;
+    @Autowired
+    private DBClientProperties properties;
+    @Autowired
+    private CacheManager cacheManager;
 
     public List<Event> findEventsScheduledForToday() throws DataBaseOperationException, MapperException {
         ResponseEntity<List<Event>> response = dbClient.findEventsScheduledForToday();
@@ -38,15 +51,87 @@ public class EventSchedulingServiceHelper {
         }
     }
 
-    public void updateEventStatus(String status, String eventName) throws DataBaseOperationException, ValidationException {
+    // The event was saved through another replica, so this replica's cached copy may predate the save
+    public Event findEvent(String eventName) throws DataBaseOperationException, MapperException {
+        Cache events = cacheManager.getCache(CacheNames.EVENTS);
+        if(events != null) {
+            events.evict(eventName);
+        }
+        ResponseEntity<Event> response = dbClient.getEvent(eventName);
+        Event responseBody = response.getBody();
+        if(responseBody != null && StringConstants.DATABASE_ERROR.equals(responseBody.getMessage())) {
+            throw new DataBaseOperationException(responseBody.getMessage());
+        } else if(responseBody != null && StringConstants.MAPPING_ERROR.equals(responseBody.getMessage())) {
+            throw new MapperException(responseBody.getMessage());
+        }
+        return responseBody;
+    }
+
+    // The fencing token is null when no lease guards the write
+    public void updateEventStatus(String status, String eventName, Long fencingToken) throws DataBaseOperationException, ValidationException {
         if(StringUtils.isBlank(status) || StringUtils.isEmpty(eventName) || StringUtils.isEmpty(status) || StringUtils.isBlank(eventName)) {
             LOGGER.error("Validation failed in EventSchedulingServiceHelper.class : updateEventStatus");
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         }
-        ResponseEntity<String> response = dbClient.updateEventStatus(status, eventName);
+        ResponseEntity<String> response = dbClient.updateEventStatus(status, eventName, fencingToken);
         String responseBody = response.getBody();
         if(responseBody.equals(StringConstants.DATABASE_ERROR)) {
             throw new DataBaseOperationException(responseBody);
         }
     }
+
+    // Results come back in the order of the updates, a chunk that fails as a whole reports every item as not updated
+    public List<EventStatusUpdate> updateEventStatuses(List<EventStatusUpdate> updates, Long fencingToken) throws ValidationException {
+        if(updates == null || updates.isEmpty() || updates.stream().anyMatch(update -> update == null || StringUtils.isBlank(update.getStatus()) || StringUtils.isBlank(update.getEventName()))) {
+            LOGGER.error("Validation failed in EventSchedulingServiceHelper.class : updateEventStatuses for object: {}", updates);
+            throw new ValidationException(StringConstants.VALIDATION_ERROR);
+        }
+        int chunkSize = Math.max(1, properties.getBulk().getChunkSize());
+        List<EventStatusUpdate> results = new ArrayList<>();
+        for(int start = 0; start < updates.size(); start += chunkSize) {
+            List<EventStatusUpdate> chunk = updates.subList(start, Math.min(start + chunkSize, updates.size()));
+            try {
+                results.addAll(checkEventStatusUpdates(chunk, dbClient.updateEventStatuses(chunk, fencingToken)));
+            } catch (FeignException.NotFound exception) {
+                LOGGER.warn("Bulk event status update is not available in DATABASE-SERVICE, updating {} events one by one", chunk.size());
+                results.addAll(updateEventStatusesOneByOne(chunk, fencingToken));
+            } catch (DataBaseOperationException | FeignException exception) {
+                LOGGER.error("Exception occurred in EventSchedulingServiceHelper.class : updateEventStatuses for {} events", chunk.size(), exception);
+                chunk.forEach(update -> results.add(new EventStatusUpdate(update.getEventName(), update.getStatus(), false, StringConstants.DATABASE_ERROR)));
+            }
+        }
+        return results;
+    }
+
+    private List<EventStatusUpdate> checkEventStatusUpdates(List<EventStatusUpdate> updates, ResponseEntity<List<EventStatusUpdate>> response) throws DataBaseOperationException {
+        List<EventStatusUpdate> responseBody = response.getBody();
+        if(responseBody != null && responseBody.size() == 1 && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
+            throw new DataBaseOperationException(responseBody.get(0).getMessage());
+        }
+        Map<String, EventStatusUpdate> resultsByName = new HashMap<>();
+        if(responseBody != null) {
+            for(EventStatusUpdate result : responseBody) {
+                if(result != null && result.getEventName() != null) {
+                    resultsByName.put(result.getEventName(), result);
+                }
+            }
+        }
+        // An event missing from the response is treated as not updated so it gets retried
+        return updates.stream()
+                .map(update -> resultsByName.getOrDefault(update.getEventName(), new EventStatusUpdate(update.getEventName(), update.getStatus(), false, null)))
+                .toList();
+    }
+
+    private List<EventStatusUpdate> updateEventStatusesOneByOne(List<EventStatusUpdate> updates, Long fencingToken) {
+        List<EventStatusUpdate> results = new ArrayList<>();
+        for(EventStatusUpdate update : updates) {
+            try {
+                updateEventStatus(update.getStatus(), update.getEventName(), fencingToken);
+                results.add(new EventStatusUpdate(update.getEventName(), update.getStatus(), true, StringConstants.REQUEST_PROCESSED));
+            } catch (DataBaseOperationException | ValidationException | FeignException exception) {
+                results.add(new EventStatusUpdate(update.getEventName(), update.getStatus(), false, exception.getMessage()));
+            }
+        }
+        return results;
+    }
 }
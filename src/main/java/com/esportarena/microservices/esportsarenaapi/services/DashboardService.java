@@ -0,0 +1,97 @@
+package com.esportarena.microservices.esportsarenaapi.services;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
+import com.esportarena.microservices.esportsarenaapi.models.*;
+import com.esportarena.microservices.esportsarenaapi.servicehelpers.ProfileServiceHelper;
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
+import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
+import io.micrometer.common.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class DashboardService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashboardService.class);
+    private static final String PROFILE = "profile";
+    private static final String UPCOMING_EVENTS = "upcomingEvents";
+    private static final String INTERESTED_GAME_EVENTS = "interestedGameEvents";
+    private static final String INTERESTED_GAMES = "interestedGames";
+    private static final int SECTIONS = 4;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private ProfileService profileService;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private ProfileServiceHelper profileValidation;
+    @Autowired
+    private DBClientProperties properties;
+
+    // Every section is requested at once and bounded by the same request deadline, a failed or late section is left empty
+    public CompletableFuture<PlayerDashboard> getPlayerDashboard(String email) {
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
+            LOGGER.error("Validation failed in DashboardService.class : getPlayerDashboard for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        long budget = budgetMillis();
+        CompletableFuture<ProfileDetail> profile = profileService.getProfileDetailsAsync(email).orTimeout(budget, TimeUnit.MILLISECONDS);
+        CompletableFuture<EventPage> upcomingEvents = eventService.findUpcomingEventsAsync(email, null, null, null).orTimeout(budget, TimeUnit.MILLISECONDS);
+        CompletableFuture<List<Event>> interestedGameEvents = eventService.findActiveUpcomingEventsWrtInterestedGamesAsync(email).orTimeout(budget, TimeUnit.MILLISECONDS);
+        CompletableFuture<List<InterestedGame>> interestedGames = gameService.findInterestedGamesForUserAsync(email).orTimeout(budget, TimeUnit.MILLISECONDS);
+
+        return CompletableFuture.allOf(profile, upcomingEvents, interestedGameEvents, interestedGames)
+                .handle((ignored, throwable) -> {
+                    PlayerDashboard dashboard = new PlayerDashboard();
+                    ProfileDetail profileDetail = resolve(profile, PROFILE, dashboard);
+                    dashboard.setProfile(profileDetail);
+                    // Completeness is derived from the same profile lookup instead of fetching the profile twice
+                    dashboard.setProfileComplete(profileDetail == null ? null : profileValidation.isProfileComplete(profileDetail));
+                    EventPage upcomingEventPage = resolve(upcomingEvents, UPCOMING_EVENTS, dashboard);
+                    dashboard.setUpcomingEvents(upcomingEventPage == null ? null : upcomingEventPage.getEvents());
+                    dashboard.setInterestedGameEvents(resolve(interestedGameEvents, INTERESTED_GAME_EVENTS, dashboard));
+                    dashboard.setInterestedGames(resolve(interestedGames, INTERESTED_GAMES, dashboard));
+                    if(dashboard.getFailedSections().size() == SECTIONS) {
+                        dashboard.setMessage(StringConstants.FALLBACK_MESSAGE);
+                    } else if(!dashboard.getFailedSections().isEmpty()) {
+                        dashboard.setMessage(StringConstants.PARTIAL_RESPONSE);
+                    } else {
+                        dashboard.setMessage(StringConstants.REQUEST_PROCESSED);
+                    }
+                    return dashboard;
+                });
+    }
+
+    public boolean isFailed(PlayerDashboard dashboard) {
+        return dashboard.getFailedSections().size() == SECTIONS;
+    }
+
+    private <T> T resolve(CompletableFuture<T> section, String name, PlayerDashboard dashboard) {
+        try {
+            return section.join();
+        } catch (CompletionException | CancellationException exception) {
+            LOGGER.warn("Dashboard section {} could not be loaded", name, FutureUtils.unwrap(exception));
+            dashboard.getFailedSections().add(name);
+            return null;
+        }
+    }
+
+    private long budgetMillis() {
+        Deadline deadline = Deadline.current();
+        if(deadline != null) {
+            return Math.max(1, deadline.remainingMillis());
+        }
+        return properties.getDeadline().getDefaultTimeout().toMillis();
+    }
+}
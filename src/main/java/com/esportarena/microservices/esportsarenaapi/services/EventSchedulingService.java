@@ -1,81 +1,324 @@
 package com.esportarena.microservices.esportsarenaapi.services;
 
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
 import com.esportarena.microservices.esportsarenaapi.enums.EventStatus;
 import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
 import com.esportarena.microservices.esportsarenaapi.models.Event;
+import com.esportarena.microservices.esportsarenaapi.models.EventReplan;
+import com.esportarena.microservices.esportsarenaapi.models.EventStatusUpdate;
 import com.esportarena.microservices.esportsarenaapi.servicehelpers.EventSchedulingServiceHelper;
+import com.esportarena.microservices.esportsarenaapi.utilities.LeaseStore;
+import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
+import com.esportarena.microservices.esportsarenaapi.utilities.TimerWheel;
+import io.micrometer.common.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.sql.Time;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
-public class EventSchedulingService {
+public class EventSchedulingService implements SmartLifecycle {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EventSchedulingService.class);
-    private static final String ONE_HOUR = "1:00:00";
+    private static final String RELOAD_KEY = "event-status-timer:reload";
     @Autowired
     private EventSchedulingServiceHelper schedulingServiceHelper;
+    @Autowired
+    private DBClientProperties properties;
+    @Autowired
+    private Environment environment;
+    @Autowired
+    private EventShardOwnership ownership;
+    @Autowired
+    private LeaseStore leaseStore;
+
+    private TimerWheel<String> wheel;
+    private SimpleAsyncTaskExecutor executor;
+    private Thread timerThread;
+    // Only touched by the timer thread, collects every transition that fell due in one poll
+    private final List<Transition> dueTransitions = new ArrayList<>();
+    private volatile boolean running;
+    // Last replan this replica has read, only touched by the replan poll
+    private volatile long replanCursor = -1;
+
+    @Override
+    public void start() {
+        DBClientProperties.EventTimer eventTimer = properties.getEventTimer();
+        wheel = new TimerWheel<>(eventTimer.getTick(), eventTimer.getWheelSize());
+        // Status updates are blocking DB calls, they must not hold up the timer thread
+        executor = new SimpleAsyncTaskExecutor("event-status-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        // A replica taking over a shard or the lease starts from the statuses in the DB, not from its own wheel
+        ownership.onChange(this::scheduleTodayEvents);
+        // Saves published before this replica started are covered by its first load
+        initReplanCursor();
+        running = true;
+        timerThread = new Thread(this::runTimer, "event-status-timer");
+        timerThread.setDaemon(true);
+        timerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if(timerThread != null) {
+            timerThread.interrupt();
+        }
+    }
 
-    @Scheduled(cron = "0 */15 * * * *")
-    public void updateEventStatus() {
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // The DB service has to be reachable, so the first load waits for the application to be ready.
+    // With sharding the ring comes first, building it runs the load through the change listener
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if(!ownership.refresh()) {
+            scheduleTodayEvents();
+        }
+    }
+
+    // Backstop for saves the replan queue did not deliver, a missed replan is picked up within one reconcile interval
+    @Scheduled(fixedDelayString = "${esports-arena.db-client.event-timer.reconcile-interval:15m}", initialDelayString = "${esports-arena.db-client.event-timer.reconcile-interval:15m}")
+    public void reconcile() {
+        scheduleTodayEvents();
         try {
-            LOGGER.info("updateEventStatus scheduler started");
-            List<Event> todayEvents = schedulingServiceHelper.findEventsScheduledForToday();
+            leaseStore.pruneReplans(Instant.now().minus(properties.getEventTimer().getReplanRetention()));
+        } catch (DataAccessException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: reconcile", exception);
+        }
+    }
 
-            LocalTime currentLocalTime = LocalTime.now();
-            Time currentTime = Time.valueOf(currentLocalTime);
-            Time oneHourTime = Time.valueOf(ONE_HOUR);
-            Time timeAfterOneHour = addTime(currentTime, oneHourTime);
+    // Called after every save. A replica that does not own the event hands it to the owner through the lease store,
+    // which picks it up within one replan interval
+    public void onSaved(Event event) {
+        if(event == null || StringUtils.isBlank(event.getName()) || wheel == null) {
+            return;
+        }
+        if(ownership.owns(event.getName())) {
+            schedule(event);
+            return;
+        }
+        wheel.cancel(event.getName());
+        try {
+            leaseStore.publishReplan(event.getName());
+        } catch (DataAccessException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: onSaved for {}, left to the reconcile", event.getName(), exception);
+        }
+    }
+
+    // Every replica reads every replan and only reloads the events it owns
+    @Scheduled(fixedDelayString = "${esports-arena.db-client.event-timer.replan-interval:2s}")
+    public void pollReplans() {
+        if(replanCursor < 0) {
+            initReplanCursor();
+            return;
+        }
+        List<EventReplan> replans;
+        try {
+            replans = leaseStore.replansAfter(replanCursor, properties.getEventTimer().getReplanBatchSize());
+        } catch (DataAccessException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: pollReplans", exception);
+            return;
+        }
+        for(EventReplan replan : replans) {
+            replanCursor = replan.getId();
+            if(ownership.owns(replan.getEventName())) {
+                replan(replan.getEventName());
+            }
+        }
+    }
 
-            if (todayEvents != null) {
-                LOGGER.info("Number of events are {} has been scheduled on {} at {}", todayEvents.size(), LocalDate.now(), currentTime);
+    // Events of earlier days already sit in the wheel, the daily load picks up the new day
+    @Scheduled(cron = "0 0 0 * * *")
+    public void scheduleTodayEvents() {
+        if(!ownership.hasShard()) {
+            return;
+        }
+        try {
+            List<Event> todayEvents = schedulingServiceHelper.findEventsScheduledForToday();
+            if(todayEvents != null) {
                 for(Event event : todayEvents) {
-                        Time eventStartTime = Time.valueOf(event.getTime());
-                        Time eventDurationTime = Time.valueOf(event.getDuration());
-                        Time eventEndTime = addTime(eventStartTime, eventDurationTime);
-
-                        if(isWithinTheRange(eventStartTime, eventEndTime, timeAfterOneHour) && event.getStatus() == EventStatus.ACTIVE) {
-                            schedulingServiceHelper.updateEventStatus(String.valueOf(EventStatus.ONGOING), event.getName());
-                            LOGGER.info("Updated event status from ACTIVE to ONGOING");
-                        }
-                        if(currentTime.compareTo(eventEndTime) > 0 && event.getStatus() == EventStatus.ONGOING) {
-                            schedulingServiceHelper.updateEventStatus(String.valueOf(EventStatus.COMPLETED), event.getName());
-                            LOGGER.info("Updated event status from ONGOING to COMPLETED");
-                        }
+                    schedule(event);
+                }
+                LOGGER.info("Number of events are {} has been scheduled on {}, {} status transitions pending", todayEvents.size(), LocalDate.now(), wheel.size());
+            }
+        } catch (DataBaseOperationException | MapperException | RuntimeException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: scheduleTodayEvents", exception);
+            // The reload is a blocking DB call, the timer thread only hands it to the executor like the transitions
+            wheel.schedule(RELOAD_KEY, Instant.now().plus(properties.getEventTimer().getRetryDelay()), () -> executor.execute(this::scheduleTodayEvents));
+        }
+    }
+
+    public void schedule(Event event) {
+        if(event == null || StringUtils.isBlank(event.getName()) || wheel == null) {
+            return;
+        }
+        String name = event.getName();
+        if(!ownership.owns(name)) {
+            wheel.cancel(name);
+            return;
+        }
+        Instant start;
+        Instant end;
+        try {
+            LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse(event.getDate()), LocalTime.parse(event.getTime()));
+            start = startDateTime.atZone(ZoneId.systemDefault()).toInstant();
+            end = start.plusSeconds(LocalTime.parse(event.getDuration()).toSecondOfDay());
+        } catch (DateTimeParseException | NullPointerException exception) {
+            LOGGER.error("Event {} has no valid date, time or duration, status transitions not scheduled", name);
+            wheel.cancel(name);
+            return;
+        }
+
+        if(event.getStatus() == EventStatus.ACTIVE && Instant.now().isBefore(end)) {
+            Instant ongoingAt = start.minus(properties.getEventTimer().getOngoingLead());
+            wheel.schedule(name, ongoingAt, () -> transition(name, EventStatus.ONGOING, end));
+        } else if(event.getStatus() == EventStatus.ONGOING) {
+            wheel.schedule(name, end, () -> transition(name, EventStatus.COMPLETED, end));
+        } else {
+            wheel.cancel(name);
+        }
+    }
+
+    private void replan(String name) {
+        try {
+            Event event = schedulingServiceHelper.findEvent(name);
+            if(event != null) {
+                schedule(event);
+            }
+        } catch (DataBaseOperationException | MapperException | RuntimeException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: replan of {}, left to the reconcile", name, exception);
+        }
+    }
+
+    private void initReplanCursor() {
+        try {
+            replanCursor = leaseStore.lastReplanId();
+        } catch (DataAccessException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: initReplanCursor", exception);
+        }
+    }
+
+    private void runTimer() {
+        while(running) {
+            try {
+                List<Runnable> due = wheel.poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                due.forEach(Runnable::run);
+                if(!dueTransitions.isEmpty()) {
+                    List<Transition> batch = List.copyOf(dueTransitions);
+                    dueTransitions.clear();
+                    executor.execute(() -> applyTransitions(batch));
                 }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                LOGGER.error("Exception occurred in EventSchedulingService.class: runTimer", exception);
             }
-            LOGGER.info("updateEventStatus scheduler completed");
-        } catch (DataBaseOperationException | MapperException | ValidationException exception) {
-            LOGGER.error("Exception occurred in EventSchedulingService.class: updateEventStatus", exception);
         }
     }
 
-    private Time addTime(Time startTime, Time endTime) {
-        LocalTime startLocalTime = startTime.toLocalTime();
-        LocalTime endLocalTime = endTime.toLocalTime();
+    private void transition(String name, EventStatus status, Instant end) {
+        dueTransitions.add(new Transition(name, status, end));
+    }
+
+    // Everything that fell due together goes out as one bulk update, items the bulk update did not apply are retried one by one
+    private void applyTransitions(List<Transition> batch) {
+        // Another replica may own these by now, or this one lost the scheduler lease while paused
+        List<Transition> transitions = ownership.retainOwned(batch, transition -> transition.name);
+        if(transitions.size() < batch.size()) {
+            LOGGER.info("Skipping {} event status transitions owned by another replica", batch.size() - transitions.size());
+        }
+        if(transitions.isEmpty()) {
+            return;
+        }
+        // The check above and the writes below are separate calls, the token lets the DB service refuse a write
+        // from a leader that was replaced in between
+        Long fencingToken = ownership.fencingToken();
+        List<EventStatusUpdate> updates = transitions.stream()
+                .map(transition -> new EventStatusUpdate(transition.name, String.valueOf(transition.status), null, null))
+                .toList();
+        List<EventStatusUpdate> results;
+        try {
+            results = schedulingServiceHelper.updateEventStatuses(updates, fencingToken);
+        } catch (ValidationException | RuntimeException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: applyTransitions for {} events", transitions.size(), exception);
+            transitions.forEach(this::retryLater);
+            return;
+        }
+        for(int i = 0; i < transitions.size(); i++) {
+            EventStatusUpdate result = results.get(i);
+            if(Boolean.TRUE.equals(result.getUpdated())) {
+                onTransitioned(transitions.get(i));
+            } else if(StringConstants.DATABASE_ERROR.equals(result.getMessage())) {
+                // The whole chunk failed, going one by one right away would only add load
+                retryLater(transitions.get(i));
+            } else {
+                applyTransition(transitions.get(i), fencingToken);
+            }
+        }
+        LOGGER.info("Applied {} event status transitions", transitions.size());
+    }
 
-        LocalTime totalTime = startLocalTime.plusHours(endLocalTime.getHour())
-                .plusMinutes(endLocalTime.getMinute()).plusSeconds(endLocalTime.getSecond());
+    private void applyTransition(Transition transition, Long fencingToken) {
+        try {
+            schedulingServiceHelper.updateEventStatus(String.valueOf(transition.status), transition.name, fencingToken);
+            onTransitioned(transition);
+        } catch (DataBaseOperationException | ValidationException | RuntimeException exception) {
+            LOGGER.error("Exception occurred in EventSchedulingService.class: transition of {} to {}", transition.name, transition.status, exception);
+            retryLater(transition);
+        }
+    }
 
-        Time eventEndTime = Time.valueOf(totalTime);
+    private void onTransitioned(Transition transition) {
+        LOGGER.info("Updated event {} status to {}", transition.name, transition.status);
+        // A save that landed meanwhile has already planned the next transition
+        if(transition.status == EventStatus.ONGOING && !wheel.isScheduled(transition.name)) {
+            wheel.schedule(transition.name, transition.end, () -> transition(transition.name, EventStatus.COMPLETED, transition.end));
+        }
+    }
 
-        return eventEndTime;
+    private void retryLater(Transition transition) {
+        if(!wheel.isScheduled(transition.name)) {
+            Duration retryDelay = properties.getEventTimer().getRetryDelay();
+            wheel.schedule(transition.name, Instant.now().plus(retryDelay), () -> transition(transition.name, transition.status, transition.end));
+        }
     }
 
-    private boolean isWithinTheRange(Time startTime, Time endTime, Time targetTime) {
-        if (targetTime.compareTo(startTime) >= 0 && targetTime.compareTo(endTime) <= 0) {
-            return true;
-        } else {
-            return false;
+    private static class Transition {
+
+        private final String name;
+        private final EventStatus status;
+        private final Instant end;
+
+        private Transition(String name, EventStatus status, Instant end) {
+            this.name = name;
+            this.status = status;
+            this.end = end;
         }
     }
 }
@@ -1,11 +1,17 @@
 package com.esportarena.microservices.esportsarenaapi.services;
 
+import com.esportarena.microservices.esportsarenaapi.clients.AsyncTheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.clients.ReactiveTheJackFolioDBClient;
 import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.enums.EventProjection;
 import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
 import com.esportarena.microservices.esportsarenaapi.models.*;
 import com.esportarena.microservices.esportsarenaapi.servicehelpers.EventServiceHelper;
+import com.esportarena.microservices.esportsarenaapi.utilities.EventCursor;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
 import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
 import io.micrometer.common.util.StringUtils;
 import org.slf4j.Logger;
@@ -16,9 +22,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 @Service
 public class EventService {
@@ -28,6 +43,14 @@ public class EventService {
     private EventServiceHelper validation;
     @Autowired
     private TheJackFolioDBClient dbClient;
+    @Autowired
+    private AsyncTheJackFolioDBClient asyncDbClient;
+    @Autowired
+    private ReactiveTheJackFolioDBClient reactiveDbClient;
+    @Autowired
+    private DBClientProperties properties;
+    @Autowired
+    private EventSchedulingService schedulingService;
 
     public Team saveOrUpdateTeam(Team team, boolean isCreate, boolean isUpdate) throws ValidationException, DataBaseOperationException, MapperException {
         validation.checkTeamFromUI(team);
@@ -49,16 +72,28 @@ public class EventService {
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
             ResponseEntity<Team> response = dbClient.getTeam(name);
-            Team responseBody = response.getBody();
-            validation.checkTeamFromDB(responseBody);
-            if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
-                throw new DataBaseOperationException(responseBody.getMessage());
-            }
-            else if(responseBody.getMessage().equals(StringConstants.MAPPING_ERROR)){
-                throw new MapperException(responseBody.getMessage());
-            }
-            return responseBody;
+            return checkTeamResponse(response);
+        }
+    }
+
+    public CompletableFuture<Team> getTeamAsync(String name) {
+        if(StringUtils.isBlank(name) || StringUtils.isEmpty(name)) {
+            LOGGER.error("Validation failed in EventService.class : getTeamAsync for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return asyncDbClient.getTeam(name).thenApply(FutureUtils.unchecked(this::checkTeamResponse));
+    }
+
+    private Team checkTeamResponse(ResponseEntity<Team> response) throws ValidationException, DataBaseOperationException, MapperException {
+        Team responseBody = response.getBody();
+        validation.checkTeamFromDB(responseBody);
+        if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
+            throw new DataBaseOperationException(responseBody.getMessage());
         }
+        else if(responseBody.getMessage().equals(StringConstants.MAPPING_ERROR)){
+            throw new MapperException(responseBody.getMessage());
+        }
+        return responseBody;
     }
 
     public String updateTeamStatus(String teamName, String status) throws ValidationException, DataBaseOperationException {
@@ -77,6 +112,19 @@ public class EventService {
     public Leaderboard findLeaderboard(Integer eventId, String email) throws ValidationException, DataBaseOperationException, MapperException {
         validation.checkEventIdAndEmailFromUI(eventId, email);
         ResponseEntity<Leaderboard> response = dbClient.findLeaderBoard(eventId, email);
+        return checkLeaderboardResponse(response);
+    }
+
+    public Mono<Leaderboard> findLeaderboardReactive(Integer eventId, String email) {
+        try {
+            validation.checkEventIdAndEmailFromUI(eventId, email);
+        } catch (ValidationException exception) {
+            return Mono.error(exception);
+        }
+        return reactiveDbClient.findLeaderBoard(eventId, email).mapNotNull(FutureUtils.unchecked(this::checkLeaderboardResponse));
+    }
+
+    private Leaderboard checkLeaderboardResponse(ResponseEntity<Leaderboard> response) throws ValidationException, DataBaseOperationException, MapperException {
         Leaderboard responseBody = response.getBody();
         validation.checkEventIdAndEmailFromDB(responseBody);
         if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
@@ -109,21 +157,59 @@ public class EventService {
         }
     }
 
-    public List<Event> findUpcomingEvents(String email) throws ValidationException, DataBaseOperationException, MapperException {
+    public EventPage findUpcomingEvents(String email, Integer limit, String cursor, String view) throws ValidationException, DataBaseOperationException, MapperException {
         if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
             LOGGER.error("Validation failed in EventService.class : findUpcomingEvents for object: null");
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
-            ResponseEntity<List<Event>> response = dbClient.findUpcomingEvents(email);
-            List<Event> responseBody = response.getBody();
-            validation.checkUpComingEventsFromDB(responseBody);
-            if(responseBody != null && responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
-                throw new DataBaseOperationException(responseBody.get(0).getMessage());
-            } else if(responseBody != null && responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.MAPPING_ERROR)) {
-                throw new MapperException(responseBody.get(0).getMessage());
-            }
-            return responseBody;
+            EventCursor.validate(limit, cursor);
+            String projection = EventProjection.normalize(view);
+            ResponseEntity<List<Event>> response = dbClient.findUpcomingEvents(email, EventCursor.upstreamLimit(limit, cursor), cursor, projection);
+            return EventCursor.page(checkUpcomingEventsResponse(response), limit, cursor);
+        }
+    }
+
+    public CompletableFuture<EventPage> findUpcomingEventsAsync(String email, Integer limit, String cursor, String view) {
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
+            LOGGER.error("Validation failed in EventService.class : findUpcomingEventsAsync for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        String projection;
+        try {
+            EventCursor.validate(limit, cursor);
+            projection = EventProjection.normalize(view);
+        } catch (ValidationException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        return asyncDbClient.findUpcomingEvents(email, EventCursor.upstreamLimit(limit, cursor), cursor, projection)
+                .thenApply(FutureUtils.unchecked((ResponseEntity<List<Event>> response) -> EventCursor.page(checkUpcomingEventsResponse(response), limit, cursor)));
+    }
+
+    public Mono<EventPage> findUpcomingEventsReactive(String email, Integer limit, String cursor, String view) {
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
+            LOGGER.error("Validation failed in EventService.class : findUpcomingEventsReactive for object: null");
+            return Mono.error(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        String projection;
+        try {
+            EventCursor.validate(limit, cursor);
+            projection = EventProjection.normalize(view);
+        } catch (ValidationException exception) {
+            return Mono.error(exception);
+        }
+        return reactiveDbClient.findUpcomingEvents(email, EventCursor.upstreamLimit(limit, cursor), cursor, projection)
+                .mapNotNull(FutureUtils.unchecked((ResponseEntity<List<Event>> response) -> EventCursor.page(checkUpcomingEventsResponse(response), limit, cursor)));
+    }
+
+    private List<Event> checkUpcomingEventsResponse(ResponseEntity<List<Event>> response) throws ValidationException, DataBaseOperationException, MapperException {
+        List<Event> responseBody = response.getBody();
+        validation.checkUpComingEventsFromDB(responseBody);
+        if(responseBody != null && responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
+            throw new DataBaseOperationException(responseBody.get(0).getMessage());
+        } else if(responseBody != null && responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.MAPPING_ERROR)) {
+            throw new MapperException(responseBody.get(0).getMessage());
         }
+        return responseBody;
     }
 
     public List<Event> findActiveUpcomingEventsWrtInterestedGames(String email) throws ValidationException, DataBaseOperationException, MapperException {
@@ -132,28 +218,42 @@ public class EventService {
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
             ResponseEntity<List<Event>> response = dbClient.findActiveUpcomingEventsWrtInterestedGames(email);
-            List<Event> responseBody = response.getBody();
-            validation.checkUpComingEventsWrtIntGamesFromDB(responseBody);
-            if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
-                throw new DataBaseOperationException(responseBody.get(0).getMessage());
-            } else if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.MAPPING_ERROR)) {
-                throw new MapperException(responseBody.get(0).getMessage());
-            }
-            return responseBody;
+            return checkUpcomingEventsWrtInterestedGamesResponse(response);
+        }
+    }
+
+    public CompletableFuture<List<Event>> findActiveUpcomingEventsWrtInterestedGamesAsync(String email) {
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
+            LOGGER.error("Validation failed in EventService.class : findActiveUpcomingEventsWrtInterestedGamesAsync for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
         }
+        return asyncDbClient.findActiveUpcomingEventsWrtInterestedGames(email).thenApply(FutureUtils.unchecked(this::checkUpcomingEventsWrtInterestedGamesResponse));
+    }
+
+    private List<Event> checkUpcomingEventsWrtInterestedGamesResponse(ResponseEntity<List<Event>> response) throws ValidationException, DataBaseOperationException, MapperException {
+        List<Event> responseBody = response.getBody();
+        validation.checkUpComingEventsWrtIntGamesFromDB(responseBody);
+        if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
+            throw new DataBaseOperationException(responseBody.get(0).getMessage());
+        } else if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.MAPPING_ERROR)) {
+            throw new MapperException(responseBody.get(0).getMessage());
+        }
+        return responseBody;
     }
 
-    public List<Event> findAllUpcomingOrganizerEvents(String email) throws ValidationException, DataBaseOperationException, MapperException {
+    public EventPage findAllUpcomingOrganizerEvents(String email, Integer limit, String cursor, String view) throws ValidationException, DataBaseOperationException, MapperException {
         List<Event> responseBody = null;
         if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
             LOGGER.error("Validation failed in EventService.class : findAllUpcomingOrganizerEvents for object: null");
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
-            ResponseEntity<List<Event>> response = dbClient.findAllUpcomingOrganizerEvents(email);
+            EventCursor.validate(limit, cursor);
+            String projection = EventProjection.normalize(view);
+            ResponseEntity<List<Event>> response = dbClient.findAllUpcomingOrganizerEvents(email, EventCursor.upstreamLimit(limit, cursor), cursor, projection);
             if(response.getStatusCode().is2xxSuccessful()) {
                 responseBody = response.getBody();
                 validation.checkUpComingEventsWrtIntGamesFromDB(responseBody);
-                return responseBody;
+                return EventCursor.page(responseBody, limit, cursor);
             } else {
                 responseBody = response.getBody();
                 if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
@@ -163,20 +263,22 @@ public class EventService {
                 }
             }
         }
-        return responseBody;
+        return new EventPage(responseBody, null);
     }
 
-    public List<Event> findAllLeaderboardCompleteOrganizerEvents(String email) throws ValidationException, DataBaseOperationException, MapperException {
+    public EventPage findAllLeaderboardCompleteOrganizerEvents(String email, Integer limit, String cursor, String view) throws ValidationException, DataBaseOperationException, MapperException {
         List<Event> responseBody = null;
         if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
             LOGGER.error("Validation failed in EventService.class : findAllUpcomingOrganizerEvents for object: null");
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
-            ResponseEntity<List<Event>> response = dbClient.findAllLeaderboardCompleteOrganizerEvents(email);
+            EventCursor.validate(limit, cursor);
+            String projection = EventProjection.normalize(view);
+            ResponseEntity<List<Event>> response = dbClient.findAllLeaderboardCompleteOrganizerEvents(email, EventCursor.upstreamLimit(limit, cursor), cursor, projection);
             if(response.getStatusCode().is2xxSuccessful()) {
                 responseBody = response.getBody();
                 validation.checkUpComingEventsWrtIntGamesFromDB(responseBody);
-                return responseBody;
+                return EventCursor.page(responseBody, limit, cursor);
             } else {
                 responseBody = response.getBody();
                 if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
@@ -186,20 +288,22 @@ public class EventService {
                 }
             }
         }
-        return responseBody;
+        return new EventPage(responseBody, null);
     }
 
-    public List<Event> findOnlyActiveOrganizerEvents(String email) throws ValidationException, DataBaseOperationException, MapperException {
+    public EventPage findOnlyActiveOrganizerEvents(String email, Integer limit, String cursor, String view) throws ValidationException, DataBaseOperationException, MapperException {
         List<Event> responseBody = null;
         if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
             LOGGER.error("Validation failed in EventService.class : findAllUpcomingOrganizerEvents for object: null");
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
-            ResponseEntity<List<Event>> response = dbClient.findOnlyActiveOrganizerEvents(email);
+            EventCursor.validate(limit, cursor);
+            String projection = EventProjection.normalize(view);
+            ResponseEntity<List<Event>> response = dbClient.findOnlyActiveOrganizerEvents(email, EventCursor.upstreamLimit(limit, cursor), cursor, projection);
             if(response.getStatusCode().is2xxSuccessful()) {
                 responseBody = response.getBody();
                 validation.checkUpComingEventsWrtIntGamesFromDB(responseBody);
-                return responseBody;
+                return EventCursor.page(responseBody, limit, cursor);
             } else {
                 responseBody = response.getBody();
                 if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
@@ -209,20 +313,22 @@ public class EventService {
                 }
             }
         }
-        return responseBody;
+        return new EventPage(responseBody, null);
     }
 
-    public List<Event> findAllLeaderboardCompleteParticipantEvents(String email) throws ValidationException, DataBaseOperationException, MapperException {
+    public EventPage findAllLeaderboardCompleteParticipantEvents(String email, Integer limit, String cursor, String view) throws ValidationException, DataBaseOperationException, MapperException {
         List<Event> responseBody = null;
         if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
             LOGGER.error("Validation failed in EventService.class : findAllUpcomingOrganizerEvents for object: null");
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
-            ResponseEntity<List<Event>> response = dbClient.findAllLeaderboardCompleteParticipantEvents(email);
+            EventCursor.validate(limit, cursor);
+            String projection = EventProjection.normalize(view);
+            ResponseEntity<List<Event>> response = dbClient.findAllLeaderboardCompleteParticipantEvents(email, EventCursor.upstreamLimit(limit, cursor), cursor, projection);
             if(response.getStatusCode().is2xxSuccessful()) {
                 responseBody = response.getBody();
                 validation.checkUpComingEventsWrtIntGamesFromDB(responseBody);
-                return responseBody;
+                return EventCursor.page(responseBody, limit, cursor);
             } else {
                 responseBody = response.getBody();
                 if(responseBody.size() == 1 && StringUtils.isNotEmpty(responseBody.get(0).getMessage()) && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
@@ -232,7 +338,7 @@ public class EventService {
                 }
             }
         }
-        return responseBody;
+        return new EventPage(responseBody, null);
     }
 
     public Event saveOrUpdateEvent(Event event, boolean isCreate, boolean isUpdate) throws ValidationException, DataBaseOperationException, MapperException {
@@ -246,6 +352,7 @@ public class EventService {
         else if(responseBody.getMessage().equals(StringConstants.MAPPING_ERROR)){
             throw new MapperException(responseBody.getMessage());
         }
+        schedulingService.onSaved(responseBody.getStatus() != null ? responseBody : event);
         return responseBody;
     }
 
@@ -255,16 +362,28 @@ public class EventService {
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
             ResponseEntity<Event> response = dbClient.getEvent(name);
-            Event responseBody = response.getBody();
-            validation.checkEventFromDB(responseBody);
-            if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
-                throw new DataBaseOperationException(responseBody.getMessage());
-            }
-            else if(responseBody.getMessage().equals(StringConstants.MAPPING_ERROR)){
-                throw new MapperException(responseBody.getMessage());
-            }
-            return responseBody;
+            return checkEventResponse(response);
+        }
+    }
+
+    public CompletableFuture<Event> getEventAsync(String name) {
+        if(StringUtils.isBlank(name) || StringUtils.isEmpty(name)) {
+            LOGGER.error("Validation failed in EventService.class : getEventAsync for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return asyncDbClient.getEvent(name).thenApply(FutureUtils.unchecked(this::checkEventResponse));
+    }
+
+    private Event checkEventResponse(ResponseEntity<Event> response) throws ValidationException, DataBaseOperationException, MapperException {
+        Event responseBody = response.getBody();
+        validation.checkEventFromDB(responseBody);
+        if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
+            throw new DataBaseOperationException(responseBody.getMessage());
         }
+        else if(responseBody.getMessage().equals(StringConstants.MAPPING_ERROR)){
+            throw new MapperException(responseBody.getMessage());
+        }
+        return responseBody;
     }
 
     public Integer getEventId(String name) throws ValidationException {
@@ -289,6 +408,14 @@ public class EventService {
         }
     }
 
+    public CompletableFuture<Boolean> isRegisteredInEventAsync(Integer eventId, String eventName, String email) {
+        if(eventId == null && (StringUtils.isBlank(eventName) || StringUtils.isEmpty(eventName))) {
+            LOGGER.error("Validation failed in EventService.class : isRegisteredInEventAsync for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return asyncDbClient.isRegisteredInEvent(eventId, eventName, email).thenApply(ResponseEntity::getBody);
+    }
+
     public List<ProfileDetail> getTeamDetailsForEvent(Integer eventId, String eventName, String email) throws ValidationException {
         validation.checkEventIdEmailEventNameFromUI(eventId, email, eventName);
         ResponseEntity<List<ProfileDetail>> response = dbClient.getTeamDetailsForEvent(eventId, eventName, email);
@@ -325,6 +452,28 @@ public class EventService {
     public List<TeamWithCount> getTeamsWithCount(Integer eventId, String eventName) throws ValidationException {
         validation.checkEventIdAndEmailFromUI(eventId, eventName);
         ResponseEntity<List<TeamWithCount>> response = dbClient.getTeamsWithCount(eventId, eventName);
+        return checkTeamsWithCountResponse(response);
+    }
+
+    public CompletableFuture<List<TeamWithCount>> getTeamsWithCountAsync(Integer eventId, String eventName) {
+        try {
+            validation.checkEventIdAndEmailFromUI(eventId, eventName);
+        } catch (ValidationException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        return asyncDbClient.getTeamsWithCount(eventId, eventName).thenApply(FutureUtils.unchecked(this::checkTeamsWithCountResponse));
+    }
+
+    public Mono<List<TeamWithCount>> getTeamsWithCountReactive(Integer eventId, String eventName) {
+        try {
+            validation.checkEventIdAndEmailFromUI(eventId, eventName);
+        } catch (ValidationException exception) {
+            return Mono.error(exception);
+        }
+        return reactiveDbClient.getTeamsWithCount(eventId, eventName).mapNotNull(FutureUtils.unchecked(this::checkTeamsWithCountResponse));
+    }
+
+    private List<TeamWithCount> checkTeamsWithCountResponse(ResponseEntity<List<TeamWithCount>> response) throws ValidationException {
         if(response.getStatusCode().is2xxSuccessful()) {
             List<TeamWithCount> responseBody = response.getBody();
             return responseBody;
@@ -408,13 +557,99 @@ public class EventService {
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
             ResponseEntity<List<TeamWithPoints>> response  = dbClient.findTeamsWithPoints(eventId);
-            if(response.getStatusCode().is2xxSuccessful()) {
-                List<TeamWithPoints> responseBody = response.getBody();
-                return responseBody;
-            } else {
-                throw new ValidationException(StringConstants.FALLBACK_MESSAGE);
+            return checkTeamsWithPointsResponse(response);
+        }
+    }
+
+    public CompletableFuture<List<TeamWithPoints>> findTeamsWithPointsAsync(Integer eventId) {
+        if(eventId == null) {
+            LOGGER.error("Validation failed in EventService.class : findTeamsWithPointsAsync for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return asyncDbClient.findTeamsWithPoints(eventId).thenApply(FutureUtils.unchecked(this::checkTeamsWithPointsResponse));
+    }
+
+    public Mono<List<TeamWithPoints>> findTeamsWithPointsReactive(Integer eventId) {
+        if(eventId == null) {
+            LOGGER.error("Validation failed in EventService.class : findTeamsWithPointsReactive for object: null");
+            return Mono.error(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return reactiveDbClient.findTeamsWithPoints(eventId).mapNotNull(FutureUtils.unchecked(this::checkTeamsWithPointsResponse));
+    }
+
+    private List<TeamWithPoints> checkTeamsWithPointsResponse(ResponseEntity<List<TeamWithPoints>> response) throws ValidationException {
+        if(response.getStatusCode().is2xxSuccessful()) {
+            List<TeamWithPoints> responseBody = response.getBody();
+            return responseBody;
+        } else {
+            throw new ValidationException(StringConstants.FALLBACK_MESSAGE);
+        }
+    }
+
+    public Flux<Event> streamUpcomingEvents(String email) {
+        return streamEvents(email, "streamUpcomingEvents", reactiveDbClient::streamUpcomingEvents);
+    }
+
+    public Flux<Event> streamAllUpcomingOrganizerEvents(String email) {
+        return streamEvents(email, "streamAllUpcomingOrganizerEvents", reactiveDbClient::streamAllUpcomingOrganizerEvents);
+    }
+
+    public Flux<Event> streamAllLeaderboardCompleteOrganizerEvents(String email) {
+        return streamEvents(email, "streamAllLeaderboardCompleteOrganizerEvents", reactiveDbClient::streamAllLeaderboardCompleteOrganizerEvents);
+    }
+
+    public Flux<Event> streamAllLeaderboardCompleteParticipantEvents(String email) {
+        return streamEvents(email, "streamAllLeaderboardCompleteParticipantEvents", reactiveDbClient::streamAllLeaderboardCompleteParticipantEvents);
+    }
+
+    public Flux<Event> streamOnlyActiveOrganizerEvents(String email) {
+        return streamEvents(email, "streamOnlyActiveOrganizerEvents", reactiveDbClient::streamOnlyActiveOrganizerEvents);
+    }
+
+    private Flux<Event> streamEvents(String email, String operation, Function<String, Flux<Event>> call) {
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
+            LOGGER.error("Validation failed in EventService.class : {} for object: null", operation);
+            return Flux.error(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return call.apply(email).handle((event, sink) -> {
+            try {
+                checkStreamedEvent(event);
+                sink.next(event);
+            } catch (ValidationException | DataBaseOperationException | MapperException exception) {
+                sink.error(exception);
             }
+        });
+    }
+
+    // Same checks as the list responses, applied to each event as it is decoded
+    private void checkStreamedEvent(Event event) throws ValidationException, DataBaseOperationException, MapperException {
+        if(StringUtils.isNotBlank(event.getName())) {
+            return;
+        }
+        if(StringConstants.DATABASE_ERROR.equals(event.getMessage())) {
+            throw new DataBaseOperationException(event.getMessage());
+        } else if(StringConstants.MAPPING_ERROR.equals(event.getMessage())) {
+            throw new MapperException(event.getMessage());
+        }
+        LOGGER.error("Validation failed in EventService.class : checkStreamedEvent for object: null");
+        throw new ValidationException(StringConstants.VALIDATION_ERROR);
+    }
+
+    public Flux<TeamWithCount> streamTeamsWithCount(Integer eventId, String eventName) {
+        try {
+            validation.checkEventIdAndEmailFromUI(eventId, eventName);
+        } catch (ValidationException exception) {
+            return Flux.error(exception);
         }
+        return reactiveDbClient.streamTeamsWithCount(eventId, eventName);
+    }
+
+    public Flux<TeamWithPoints> streamTeamsWithPoints(Integer eventId) {
+        if(eventId == null) {
+            LOGGER.error("Validation failed in EventService.class : streamTeamsWithPoints for object: null");
+            return Flux.error(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return reactiveDbClient.streamTeamsWithPoints(eventId);
     }
 
     public Viewer saveViewer(Viewer viewer) throws ValidationException, DataBaseOperationException, MapperException {
@@ -434,10 +669,75 @@ public class EventService {
     public Viewer isViewer(String email, Integer eventId) throws ValidationException, DataBaseOperationException {
         validation.checkEventIdAndEmailFromUI(eventId, email);
         ResponseEntity<Viewer> response = dbClient.isViewer(email, eventId);
+        return checkViewerResponse(response);
+    }
+
+    public CompletableFuture<Viewer> isViewerAsync(String email, Integer eventId) {
+        try {
+            validation.checkEventIdAndEmailFromUI(eventId, email);
+        } catch (ValidationException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        return asyncDbClient.isViewer(email, eventId).thenApply(FutureUtils.unchecked(this::checkViewerResponse));
+    }
+
+    private Viewer checkViewerResponse(ResponseEntity<Viewer> response) throws DataBaseOperationException {
         Viewer responseBody = response.getBody();
         if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
             throw new DataBaseOperationException(responseBody.getMessage());
         }
         return responseBody;
     }
+
+    public Map<Integer, RegistrationStatus> getRegistrationStatuses(String email, List<Integer> eventIds) throws ValidationException, DataBaseOperationException, MapperException {
+        List<Integer> uniqueEventIds = eventIds == null ? List.of() : eventIds.stream().filter(Objects::nonNull).distinct().toList();
+        // Every chunk is a DB call started at once, the list size bounds how many one request can start
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email) || uniqueEventIds.isEmpty() || eventIds.size() > properties.getBulk().getMaxIds()) {
+            LOGGER.error("Validation failed in EventService.class : getRegistrationStatuses for object: {}", eventIds);
+            throw new ValidationException(StringConstants.VALIDATION_ERROR);
+        }
+        int chunkSize = Math.max(1, properties.getBulk().getChunkSize());
+        List<CompletableFuture<List<RegistrationStatus>>> chunks = new ArrayList<>();
+        for(int start = 0; start < uniqueEventIds.size(); start += chunkSize) {
+            chunks.add(findRegistrationStatusChunk(email, uniqueEventIds.subList(start, Math.min(start + chunkSize, uniqueEventIds.size()))));
+        }
+        Map<Integer, RegistrationStatus> statuses = new LinkedHashMap<>();
+        try {
+            for(CompletableFuture<List<RegistrationStatus>> chunk : chunks) {
+                for(RegistrationStatus status : chunk.join()) {
+                    statuses.put(status.getEventId(), status);
+                }
+            }
+        } catch (CompletionException exception) {
+            Throwable cause = FutureUtils.unwrap(exception);
+            if(cause instanceof DataBaseOperationException) {
+                throw (DataBaseOperationException) cause;
+            } else if(cause instanceof MapperException) {
+                throw (MapperException) cause;
+            } else if(cause instanceof ValidationException) {
+                throw (ValidationException) cause;
+            }
+            throw exception;
+        }
+        return statuses;
+    }
+
+    // There is no one by one fallback, the per event lookups need the event name and only the ids are known here
+    private CompletableFuture<List<RegistrationStatus>> findRegistrationStatusChunk(String email, List<Integer> eventIds) {
+        return asyncDbClient.getRegistrationStatuses(email, eventIds)
+                .thenApply(FutureUtils.unchecked(this::checkRegistrationStatusesResponse));
+    }
+
+    private List<RegistrationStatus> checkRegistrationStatusesResponse(ResponseEntity<List<RegistrationStatus>> response) throws DataBaseOperationException, MapperException {
+        List<RegistrationStatus> responseBody = response.getBody();
+        if(responseBody == null) {
+            return List.of();
+        }
+        if(responseBody.size() == 1 && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
+            throw new DataBaseOperationException(responseBody.get(0).getMessage());
+        } else if(responseBody.size() == 1 && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.MAPPING_ERROR)) {
+            throw new MapperException(responseBody.get(0).getMessage());
+        }
+        return responseBody.stream().filter(status -> status.getEventId() != null).toList();
+    }
 }
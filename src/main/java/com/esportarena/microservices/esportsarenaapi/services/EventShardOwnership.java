@@ -0,0 +1,117 @@
+package com.esportarena.microservices.esportsarenaapi.services;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.models.Lease;
+import com.esportarena.microservices.esportsarenaapi.utilities.ConsistentHashRing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+// Decides which replica applies an event's status transitions. With sharding every live instance in Eureka owns
+// the events that hash to it, without it the holder of the scheduler lease owns all of them
+@Service
+public class EventShardOwnership {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventShardOwnership.class);
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private volatile ConsistentHashRing ring;
+    @Autowired
+    private DiscoveryClient discoveryClient;
+    @Autowired(required = false)
+    private Registration registration;
+    @Autowired
+    private SchedulerLeadership leadership;
+    @Autowired
+    private DBClientProperties properties;
+
+    // Eureka only hands out UP instances, so a replica that stops or fails its health check drops out of the ring here.
+    // The first ring is built at ApplicationReadyEvent by EventSchedulingService, the schedule only keeps it current
+    @Scheduled(fixedDelayString = "${esports-arena.db-client.sharding.refresh-interval:10s}", initialDelayString = "${esports-arena.db-client.sharding.refresh-interval:10s}")
+    public void refreshMembers() {
+        refresh();
+    }
+
+    // True when the ring changed and the change listeners ran
+    public boolean refresh() {
+        DBClientProperties.Sharding sharding = properties.getSharding();
+        if(!sharding.isEnabled()) {
+            return false;
+        }
+        Set<String> members = new TreeSet<>();
+        members.add(selfId());
+        try {
+            for(ServiceInstance instance : discoveryClient.getInstances(sharding.getServiceId())) {
+                if(instance.getInstanceId() != null) {
+                    members.add(instance.getInstanceId());
+                }
+            }
+        } catch (RuntimeException exception) {
+            // Keep the last ring, a replica that cannot see the registry keeps its shard rather than dropping it
+            LOGGER.error("Exception occurred in EventShardOwnership.class: refreshMembers", exception);
+            return false;
+        }
+        ConsistentHashRing current = ring;
+        if(current == null || !current.getMembers().equals(members)) {
+            ring = new ConsistentHashRing(members, sharding.getVirtualNodes());
+            LOGGER.info("Event shards rebalanced across {} instances: {}", members.size(), members);
+            changeListeners.forEach(Runnable::run);
+            return true;
+        }
+        return false;
+    }
+
+    public void onChange(Runnable listener) {
+        changeListeners.add(listener);
+        leadership.onGranted(() -> {
+            if(!properties.getSharding().isEnabled()) {
+                listener.run();
+            }
+        });
+    }
+
+    // Whether this replica should hold any transitions at all
+    public boolean hasShard() {
+        return properties.getSharding().isEnabled() ? ring != null : leadership.isLeader();
+    }
+
+    public boolean owns(String eventName) {
+        if(!properties.getSharding().isEnabled()) {
+            return leadership.isLeader();
+        }
+        ConsistentHashRing current = ring;
+        // Before the first registry read the ring is unknown, owning nothing until then keeps two replicas from
+        // both applying a transition. The first ring runs the change listeners, which load the shard
+        return current != null && selfId().equals(current.owner(eventName));
+    }
+
+    // Checked right before the writes, the ring may have moved since the transitions were planned
+    public <T> List<T> retainOwned(List<T> items, Function<T, String> eventName) {
+        if(!properties.getSharding().isEnabled()) {
+            return leadership.isStillLeader() ? items : List.of();
+        }
+        return items.stream().filter(item -> owns(eventName.apply(item))).toList();
+    }
+
+    // Token of the lease the writes run under, sharded replicas hold no lease and send none
+    public Long fencingToken() {
+        if(properties.getSharding().isEnabled()) {
+            return null;
+        }
+        return leadership.currentLease().map(Lease::getToken).orElse(null);
+    }
+
+    private String selfId() {
+        return registration != null ? registration.getInstanceId() : leadership.getOwner();
+    }
+}
@@ -1,5 +1,6 @@
 package com.esportarena.microservices.esportsarenaapi.services;
 
+import com.esportarena.microservices.esportsarenaapi.clients.AsyncTheJackFolioDBClient;
 import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
 import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
@@ -7,6 +8,7 @@ import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationExcept
 import com.esportarena.microservices.esportsarenaapi.models.Game;
 import com.esportarena.microservices.esportsarenaapi.models.InterestedGame;
 import com.esportarena.microservices.esportsarenaapi.servicehelpers.GameServiceHelper;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
 import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class GameService {
@@ -25,6 +28,8 @@ public class GameService {
     private GameServiceHelper validation;
     @Autowired
     private TheJackFolioDBClient dbClient;
+    @Autowired
+    private AsyncTheJackFolioDBClient asyncDbClient;
 
     public Game saveOrUpdateGame(Game game) throws ValidationException, DataBaseOperationException, MapperException {
         validation.checkGameFromUI(game);
@@ -41,6 +46,14 @@ public class GameService {
 
     public List<Game> findAllActiveGames() throws MapperException, DataBaseOperationException {
         ResponseEntity<List<Game>> response = dbClient.findAllActiveGames();
+        return checkActiveGamesResponse(response);
+    }
+
+    public CompletableFuture<List<Game>> findAllActiveGamesAsync() {
+        return asyncDbClient.findAllActiveGames().thenApply(FutureUtils.unchecked(this::checkActiveGamesResponse));
+    }
+
+    private List<Game> checkActiveGamesResponse(ResponseEntity<List<Game>> response) throws MapperException, DataBaseOperationException {
         List<Game> responseBody = response.getBody();
         if(responseBody != null && responseBody.size() == 1) {
             if(responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
@@ -57,4 +70,8 @@ public class GameService {
         List<InterestedGame> interestedGames = response.getBody();
         return interestedGames;
     }
+
+    public CompletableFuture<List<InterestedGame>> findInterestedGamesForUserAsync(String email) {
+        return asyncDbClient.findAllInterestedGamesForUser(email).thenApply(ResponseEntity::getBody);
+    }
 }
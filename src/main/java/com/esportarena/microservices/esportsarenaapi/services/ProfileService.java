@@ -1,6 +1,9 @@
 package com.esportarena.microservices.esportsarenaapi.services;
 
+import com.esportarena.microservices.esportsarenaapi.clients.AsyncTheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.clients.ReactiveTheJackFolioDBClient;
 import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
 import com.esportarena.microservices.esportsarenaapi.exceptions.DataBaseOperationException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.MapperException;
 import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
@@ -8,7 +11,9 @@ import com.esportarena.microservices.esportsarenaapi.models.Document;
 import com.esportarena.microservices.esportsarenaapi.models.Partner;
 import com.esportarena.microservices.esportsarenaapi.models.ProfileDetail;
 import com.esportarena.microservices.esportsarenaapi.servicehelpers.ProfileServiceHelper;
+import com.esportarena.microservices.esportsarenaapi.utilities.FutureUtils;
 import com.esportarena.microservices.esportsarenaapi.utilities.StringConstants;
+import feign.FeignException;
 import io.micrometer.common.util.StringUtils;
 import jakarta.mail.Part;
 import org.slf4j.Logger;
@@ -17,9 +22,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class ProfileService {
@@ -29,6 +41,12 @@ public class ProfileService {
     private ProfileServiceHelper validation;
     @Autowired
     private TheJackFolioDBClient dbClient;
+    @Autowired
+    private AsyncTheJackFolioDBClient asyncDbClient;
+    @Autowired
+    private ReactiveTheJackFolioDBClient reactiveDbClient;
+    @Autowired
+    private DBClientProperties properties;
 
     public ProfileDetail saveOrUpdateProfileDetails(ProfileDetail detail) throws ValidationException, DataBaseOperationException, MapperException {
         validation.checkProfileDetailsFromUI(detail);
@@ -50,16 +68,112 @@ public class ProfileService {
             throw new ValidationException(StringConstants.VALIDATION_ERROR);
         } else {
             ResponseEntity<ProfileDetail> response = dbClient.getProfileDetails(email);
-            ProfileDetail responseBody = response.getBody();
-            validation.checkProfileDetailsFromDB(responseBody);
-            if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
-                throw new DataBaseOperationException(responseBody.getMessage());
+            return checkProfileDetailsResponse(response);
+        }
+    }
+
+    public CompletableFuture<ProfileDetail> getProfileDetailsAsync(String email) {
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
+            LOGGER.error("Validation failed in ProfileService.class : getProfileDetailsAsync for object: null");
+            return CompletableFuture.failedFuture(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return asyncDbClient.getProfileDetails(email).thenApply(FutureUtils.unchecked(this::checkProfileDetailsResponse));
+    }
+
+    public Mono<ProfileDetail> getProfileDetailsReactive(String email) {
+        if(StringUtils.isBlank(email) || StringUtils.isEmpty(email)) {
+            LOGGER.error("Validation failed in ProfileService.class : getProfileDetailsReactive for object: null");
+            return Mono.error(new ValidationException(StringConstants.VALIDATION_ERROR));
+        }
+        return reactiveDbClient.getProfileDetails(email).mapNotNull(FutureUtils.unchecked(this::checkProfileDetailsResponse));
+    }
+
+    private ProfileDetail checkProfileDetailsResponse(ResponseEntity<ProfileDetail> response) throws ValidationException, DataBaseOperationException, MapperException {
+        ProfileDetail responseBody = response.getBody();
+        validation.checkProfileDetailsFromDB(responseBody);
+        if(responseBody.getMessage().equals(StringConstants.DATABASE_ERROR)){
+            throw new DataBaseOperationException(responseBody.getMessage());
+        }
+        else if(responseBody.getMessage().equals(StringConstants.MAPPING_ERROR)){
+            throw new MapperException(responseBody.getMessage());
+        }
+        return responseBody;
+    }
+
+    public Map<String, ProfileDetail> getProfileDetails(List<String> emails) throws ValidationException, DataBaseOperationException, MapperException {
+        List<String> uniqueEmails = emails == null ? List.of() : emails.stream().filter(StringUtils::isNotBlank).distinct().toList();
+        if(uniqueEmails.isEmpty()) {
+            LOGGER.error("Validation failed in ProfileService.class : getProfileDetails for object: {}", emails);
+            throw new ValidationException(StringConstants.VALIDATION_ERROR);
+        }
+        int chunkSize = Math.max(1, properties.getBulk().getChunkSize());
+        List<CompletableFuture<Map<String, ProfileDetail>>> chunks = new ArrayList<>();
+        for(int start = 0; start < uniqueEmails.size(); start += chunkSize) {
+            chunks.add(findProfileChunk(uniqueEmails.subList(start, Math.min(start + chunkSize, uniqueEmails.size()))));
+        }
+        Map<String, ProfileDetail> profiles = new LinkedHashMap<>();
+        try {
+            for(CompletableFuture<Map<String, ProfileDetail>> chunk : chunks) {
+                profiles.putAll(chunk.join());
             }
-            else if(responseBody.getMessage().equals(StringConstants.MAPPING_ERROR)){
-                throw new MapperException(responseBody.getMessage());
+        } catch (CompletionException exception) {
+            Throwable cause = FutureUtils.unwrap(exception);
+            if(cause instanceof DataBaseOperationException) {
+                throw (DataBaseOperationException) cause;
+            } else if(cause instanceof MapperException) {
+                throw (MapperException) cause;
+            } else if(cause instanceof ValidationException) {
+                throw (ValidationException) cause;
             }
-            return responseBody;
+            throw exception;
         }
+        return profiles;
+    }
+
+    private CompletableFuture<Map<String, ProfileDetail>> findProfileChunk(List<String> emails) {
+        return asyncDbClient.getProfileDetailsInBulk(emails)
+                .thenApply(FutureUtils.unchecked(this::checkProfileDetailsListResponse))
+                .thenApply(ProfileService::byEmail)
+                .exceptionallyCompose(throwable -> {
+                    if(FutureUtils.unwrap(throwable) instanceof FeignException.NotFound) {
+                        LOGGER.warn("Bulk profile lookup is not available in DATABASE-SERVICE, looking up {} profiles one by one", emails.size());
+                        return findProfilesOneByOne(emails);
+                    }
+                    return CompletableFuture.failedFuture(throwable);
+                });
+    }
+
+    // A failed lookup only leaves that profile out, the chunk fails when every lookup in it failed.
+    // Keyed by the requested email, a profile the DB reports as missing may come back without one
+    private CompletableFuture<Map<String, ProfileDetail>> findProfilesOneByOne(List<String> emails) {
+        Map<String, CompletableFuture<ProfileDetail>> profiles = new LinkedHashMap<>();
+        emails.forEach(email -> profiles.put(email, getProfileDetailsAsync(email)));
+        return FutureUtils.allSuccessful(profiles).thenApply(found -> {
+            if(found.size() < emails.size()) {
+                LOGGER.warn("Profile lookup one by one failed for {} of {} emails, returning the rest", emails.size() - found.size(), emails.size());
+            }
+            return found;
+        });
+    }
+
+    // Blank emails were already filtered out by checkProfileDetailsListResponse
+    private static Map<String, ProfileDetail> byEmail(List<ProfileDetail> details) {
+        Map<String, ProfileDetail> profiles = new LinkedHashMap<>();
+        details.forEach(detail -> profiles.put(detail.getEmail(), detail));
+        return profiles;
+    }
+
+    private List<ProfileDetail> checkProfileDetailsListResponse(ResponseEntity<List<ProfileDetail>> response) throws DataBaseOperationException, MapperException {
+        List<ProfileDetail> responseBody = response.getBody();
+        if(responseBody == null) {
+            return List.of();
+        }
+        if(responseBody.size() == 1 && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.DATABASE_ERROR)) {
+            throw new DataBaseOperationException(responseBody.get(0).getMessage());
+        } else if(responseBody.size() == 1 && StringUtils.isNotBlank(responseBody.get(0).getMessage()) && responseBody.get(0).getMessage().equals(StringConstants.MAPPING_ERROR)) {
+            throw new MapperException(responseBody.get(0).getMessage());
+        }
+        return responseBody.stream().filter(detail -> StringUtils.isNotBlank(detail.getEmail())).toList();
     }
 
     public Boolean isProfilePresent(String email) throws ValidationException {
@@ -97,6 +211,10 @@ public class ProfileService {
         }
     }
 
+    public CompletableFuture<Boolean> isProfileCompleteAsync(String email) {
+        return getProfileDetailsAsync(email).thenApply(validation::isProfileComplete);
+    }
+
     public Partner saveOrUpdatePartner(Partner partner) throws ValidationException, DataBaseOperationException, MapperException, FileNotFoundException {
         validation.checkPartnerFromUI(partner);
         ResponseEntity<Partner> response = dbClient.saveOrUpdatePartner(partner);
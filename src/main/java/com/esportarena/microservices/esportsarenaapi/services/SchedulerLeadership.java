@@ -0,0 +1,117 @@
+package com.esportarena.microservices.esportsarenaapi.services;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.models.Lease;
+import com.esportarena.microservices.esportsarenaapi.utilities.LeaseStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Service
+public class SchedulerLeadership {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerLeadership.class);
+    private final String owner = hostName() + ":" + UUID.randomUUID();
+    private final List<Runnable> grantedListeners = new CopyOnWriteArrayList<>();
+    private volatile Lease lease;
+    @Autowired
+    private LeaseStore leaseStore;
+    @Autowired
+    private DBClientProperties properties;
+
+    // Followers try to take over on the same interval, so a dead leader is replaced within ttl plus one interval
+    @Scheduled(fixedDelayString = "${esports-arena.db-client.leadership.renew-interval:10s}")
+    public void heartbeat() {
+        DBClientProperties.Leadership leadership = properties.getLeadership();
+        // With sharding every replica schedules its own events, nobody needs the lease
+        if(!leadership.isEnabled() || properties.getSharding().isEnabled()) {
+            return;
+        }
+        Lease current = lease;
+        try {
+            if(current != null) {
+                lease = leaseStore.renew(current, leadership.getTtl()).orElse(null);
+                if(lease == null) {
+                    LOGGER.warn("Lost scheduler lease {} with token {}", current.getName(), current.getToken());
+                }
+            } else {
+                lease = leaseStore.tryAcquire(leadership.getName(), owner, leadership.getTtl()).orElse(null);
+                if(lease != null) {
+                    LOGGER.info("Acquired scheduler lease {} with token {} as {}", lease.getName(), lease.getToken(), owner);
+                    grantedListeners.forEach(Runnable::run);
+                }
+            }
+        } catch (DataAccessException exception) {
+            // Keep the lease until it runs out locally, isLeader stops answering true at its expiry
+            LOGGER.error("Exception occurred in SchedulerLeadership.class: heartbeat", exception);
+        }
+    }
+
+    public boolean isLeader() {
+        return currentLease().isPresent() || !properties.getLeadership().isEnabled();
+    }
+
+    public Optional<Lease> currentLease() {
+        Lease current = lease;
+        if(current == null || !Instant.now().isBefore(current.getExpiresAt())) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    // Asks the store, not the local copy, so a replica that was paused past its lease cannot write
+    public boolean isStillLeader() {
+        if(!properties.getLeadership().isEnabled()) {
+            return true;
+        }
+        Optional<Lease> current = currentLease();
+        try {
+            return current.isPresent() && leaseStore.isCurrent(current.get());
+        } catch (DataAccessException exception) {
+            LOGGER.error("Exception occurred in SchedulerLeadership.class: isStillLeader", exception);
+            return false;
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void onGranted(Runnable listener) {
+        grantedListeners.add(listener);
+    }
+
+    @PreDestroy
+    public void release() {
+        Lease current = lease;
+        lease = null;
+        if(current != null) {
+            try {
+                leaseStore.release(current);
+                LOGGER.info("Released scheduler lease {} with token {}", current.getName(), current.getToken());
+            } catch (DataAccessException exception) {
+                LOGGER.error("Exception occurred in SchedulerLeadership.class: release", exception);
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException exception) {
+            return "unknown-host";
+        }
+    }
+}
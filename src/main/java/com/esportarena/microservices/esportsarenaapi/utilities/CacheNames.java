@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+public class CacheNames {
+
+    public static final String EVENTS = "events";
+    public static final String EVENT_IDS = "event-ids";
+    public static final String TEAMS = "teams";
+    public static final String TEAMS_WITH_COUNT = "teams-with-count";
+
+    // Never cache fallback or error responses coming back from DATABASE-SERVICE
+    public static final String UNLESS_FAILED = "#result == null || !#result.statusCode.is2xxSuccessful() || #result.body == null";
+    public static final String UNLESS_FAILED_WITH_MESSAGE = UNLESS_FAILED
+            + " || T(com.esportarena.microservices.esportsarenaapi.utilities.StringConstants).DATABASE_ERROR.equals(#result.body.message)"
+            + " || T(com.esportarena.microservices.esportsarenaapi.utilities.StringConstants).MAPPING_ERROR.equals(#result.body.message)";
+
+    private CacheNames(){}
+
+}
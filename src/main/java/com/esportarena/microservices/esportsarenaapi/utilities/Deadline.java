@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import java.time.Duration;
+
+// Time budget of the request being served, bound to the worker thread and copied onto executor threads by DeadlineTaskDecorator
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAt;
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Deadline deadline) {
+        if(deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isCurrentExpired() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    // Never returns 0, HTTP clients read a zero timeout as no timeout at all
+    public static long capMillis(long millis) {
+        Deadline deadline = CURRENT.get();
+        if(deadline == null) {
+            return millis;
+        }
+        return Math.max(1, Math.min(millis, deadline.remainingMillis()));
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, Duration.ofNanos(expiresAt - System.nanoTime()).toMillis());
+    }
+
+    public boolean isExpired() {
+        return expiresAt - System.nanoTime() <= 0;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import com.esportarena.microservices.esportsarenaapi.exceptions.ValidationException;
+import com.esportarena.microservices.esportsarenaapi.models.Event;
+import com.esportarena.microservices.esportsarenaapi.models.EventPage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+// Keyset cursor over (date, time, name), so a page never shifts when events are added before it
+public class EventCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+    private static final String SEPARATOR = "\u001F";
+    private static final Comparator<String> KEY_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+    public static final Comparator<Event> ORDER = Comparator.comparing(Event::getDate, KEY_ORDER)
+            .thenComparing(Event::getTime, KEY_ORDER)
+            .thenComparing(Event::getName, KEY_ORDER);
+
+    public static boolean isRequested(Integer limit, String cursor) {
+        return limit != null || cursor != null;
+    }
+
+    // One extra row is asked from DATABASE-SERVICE to know whether another page exists
+    public static Integer upstreamLimit(Integer limit, String cursor) {
+        if(!isRequested(limit, cursor)) {
+            return null;
+        }
+        return resolveLimit(limit) + 1;
+    }
+
+    public static void validate(Integer limit, String cursor) throws ValidationException {
+        if(limit != null && limit <= 0) {
+            throw new ValidationException(StringConstants.VALIDATION_ERROR);
+        }
+        if(cursor != null) {
+            decode(cursor);
+        }
+    }
+
+    public static EventPage page(List<Event> events, Integer limit, String cursor) throws ValidationException {
+        validate(limit, cursor);
+        if(events == null || !isRequested(limit, cursor)) {
+            return new EventPage(events, null);
+        }
+        int pageSize = resolveLimit(limit);
+        Event after = cursor == null ? null : decode(cursor);
+        List<Event> ordered = new ArrayList<>(events);
+        ordered.sort(ORDER);
+        List<Event> page = new ArrayList<>(Math.min(pageSize, ordered.size()));
+        boolean hasMore = false;
+        for(Event event : ordered) {
+            if(after != null && ORDER.compare(event, after) <= 0) {
+                continue;
+            }
+            if(page.size() == pageSize) {
+                hasMore = true;
+                break;
+            }
+            page.add(event);
+        }
+        return new EventPage(page, hasMore ? encode(page.get(page.size() - 1)) : null);
+    }
+
+    public static String encode(Event event) {
+        String key = String.join(SEPARATOR, nullToEmpty(event.getDate()), nullToEmpty(event.getTime()), nullToEmpty(event.getName()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Event decode(String cursor) throws ValidationException {
+        String[] key;
+        try {
+            key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException exception) {
+            throw new ValidationException(StringConstants.VALIDATION_ERROR);
+        }
+        if(key.length != 3) {
+            throw new ValidationException(StringConstants.VALIDATION_ERROR);
+        }
+        Event event = new Event();
+        event.setDate(emptyToNull(key[0]));
+        event.setTime(emptyToNull(key[1]));
+        event.setName(emptyToNull(key[2]));
+        return event;
+    }
+
+    private static int resolveLimit(Integer limit) {
+        if(limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private EventCursor(){}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import feign.Request;
+import feign.RequestTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class FeignRequestUtils {
+
+    public static final String UNKNOWN = "unknown";
+
+    public static String methodName(Request request) {
+        RequestTemplate template = request == null ? null : request.requestTemplate();
+        if(template == null || template.methodMetadata() == null || template.methodMetadata().method() == null) {
+            return UNKNOWN;
+        }
+        return template.methodMetadata().method().getName();
+    }
+
+    public static String header(Request request, String name) {
+        Collection<String> values = request.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    public static Request withHeader(Request request, String name, String value) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.headers());
+        headers.put(name, List.of(value));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(), request.requestTemplate());
+    }
+
+    private FeignRequestUtils(){}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+public class FutureUtils {
+
+    @FunctionalInterface
+    public interface CheckedFunction<T, R> {
+        R apply(T value) throws Exception;
+    }
+
+    // Lets the service checked exceptions travel through CompletableFuture stages
+    public static <T, R> Function<T, R> unchecked(CheckedFunction<T, R> function) {
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (RuntimeException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new CompletionException(exception);
+            }
+        };
+    }
+
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    public static CompletionException wrap(Throwable throwable) {
+        return throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+    }
+
+    // Waits for all of them and keeps the values of the ones that succeeded, in the order of the keys.
+    // Fails with the first failure only when none of them succeeded
+    public static <K, V> CompletableFuture<Map<K, V>> allSuccessful(Map<K, CompletableFuture<V>> futures) {
+        CompletableFuture<?>[] settled = futures.values().stream().map(future -> future.exceptionally(throwable -> null)).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(settled).thenApply(ignored -> {
+            Map<K, V> values = new LinkedHashMap<>();
+            Throwable failure = null;
+            for(Map.Entry<K, CompletableFuture<V>> entry : futures.entrySet()) {
+                if(entry.getValue().isCompletedExceptionally()) {
+                    failure = failure != null ? failure : entry.getValue().handle((value, throwable) -> throwable).join();
+                } else if(entry.getValue().join() != null) {
+                    values.put(entry.getKey(), entry.getValue().join());
+                }
+            }
+            if(values.isEmpty() && failure != null) {
+                throw wrap(failure);
+            }
+            return values;
+        });
+    }
+
+    private FutureUtils(){}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import com.esportarena.microservices.esportsarenaapi.models.EventReplan;
+import com.esportarena.microservices.esportsarenaapi.models.Lease;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+// One row per lease, every change is a single conditional UPDATE so the database decides the race.
+// Expiry is stored in epoch millis from the replica clocks, they need to agree well within the lease ttl
+public class JdbcLeaseStore implements LeaseStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String replanTable;
+    private final LongSupplier clock;
+
+    public JdbcLeaseStore(JdbcTemplate jdbcTemplate, String table, LongSupplier clock) {
+        if(!table.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid lease table name: " + table);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.replanTable = table + "_replan";
+        this.clock = clock;
+    }
+
+    public JdbcLeaseStore(JdbcTemplate jdbcTemplate, String table) {
+        this(jdbcTemplate, table, System::currentTimeMillis);
+    }
+
+    public void createTableIfMissing() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " (" +
+                "lease_name VARCHAR(128) NOT NULL PRIMARY KEY, " +
+                "lease_owner VARCHAR(255) NOT NULL, " +
+                "fencing_token BIGINT NOT NULL, " +
+                "expires_at BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + replanTable + " (" +
+                "replan_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "event_name VARCHAR(255) NOT NULL, " +
+                "created_at BIGINT NOT NULL)");
+    }
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, String owner, Duration ttl) {
+        long now = clock.getAsLong();
+        long expiresAt = now + ttl.toMillis();
+        int updated = jdbcTemplate.update("UPDATE " + table + " SET lease_owner = ?, fencing_token = fencing_token + 1, expires_at = ? " +
+                "WHERE lease_name = ? AND expires_at <= ?", owner, expiresAt, name, now);
+        if(updated == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + table + " (lease_name, lease_owner, fencing_token, expires_at) VALUES (?, ?, 1, ?)",
+                        name, owner, expiresAt);
+            } catch (DuplicateKeyException exception) {
+                // Held by another replica
+                return Optional.empty();
+            }
+        }
+        Long token = jdbcTemplate.queryForObject("SELECT fencing_token FROM " + table + " WHERE lease_name = ? AND lease_owner = ? AND expires_at = ?",
+                Long.class, name, owner, expiresAt);
+        return Optional.of(new Lease(name, owner, token, Instant.ofEpochMilli(expiresAt)));
+    }
+
+    @Override
+    public Optional<Lease> renew(Lease lease, Duration ttl) {
+        long now = clock.getAsLong();
+        long expiresAt = now + ttl.toMillis();
+        int updated = jdbcTemplate.update("UPDATE " + table + " SET expires_at = ? " +
+                "WHERE lease_name = ? AND lease_owner = ? AND fencing_token = ? AND expires_at > ?",
+                expiresAt, lease.getName(), lease.getOwner(), lease.getToken(), now);
+        if(updated == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Lease(lease.getName(), lease.getOwner(), lease.getToken(), Instant.ofEpochMilli(expiresAt)));
+    }
+
+    @Override
+    public void release(Lease lease) {
+        // The row stays so the next holder continues the token sequence
+        jdbcTemplate.update("UPDATE " + table + " SET expires_at = 0 WHERE lease_name = ? AND lease_owner = ? AND fencing_token = ?",
+                lease.getName(), lease.getOwner(), lease.getToken());
+    }
+
+    @Override
+    public boolean isCurrent(Lease lease) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table +
+                " WHERE lease_name = ? AND lease_owner = ? AND fencing_token = ? AND expires_at > ?",
+                Integer.class, lease.getName(), lease.getOwner(), lease.getToken(), clock.getAsLong());
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void publishReplan(String eventName) {
+        jdbcTemplate.update("INSERT INTO " + replanTable + " (event_name, created_at) VALUES (?, ?)", eventName, clock.getAsLong());
+    }
+
+    // Ids are handed out at insert but become visible at commit, a replan committed behind a higher id is missed
+    // here and left to the reconcile
+    @Override
+    public List<EventReplan> replansAfter(long id, int limit) {
+        return jdbcTemplate.query("SELECT replan_id, event_name FROM " + replanTable + " WHERE replan_id > ? ORDER BY replan_id LIMIT ?",
+                (resultSet, rowNumber) -> new EventReplan(resultSet.getLong("replan_id"), resultSet.getString("event_name")), id, limit);
+    }
+
+    @Override
+    public long lastReplanId() {
+        Long id = jdbcTemplate.queryForObject("SELECT MAX(replan_id) FROM " + replanTable, Long.class);
+        return id != null ? id : 0;
+    }
+
+    @Override
+    public void pruneReplans(Instant before) {
+        jdbcTemplate.update("DELETE FROM " + replanTable + " WHERE created_at < ?", before.toEpochMilli());
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import com.esportarena.microservices.esportsarenaapi.models.EventReplan;
+import com.esportarena.microservices.esportsarenaapi.models.Lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// Shared store the replicas race on, every operation has to be atomic across all of them
+public interface LeaseStore {
+
+    // Takes the lease when nobody holds it or the holder let it expire, the fencing token moves on with every take over
+    Optional<Lease> tryAcquire(String name, String owner, Duration ttl);
+
+    // Extends a lease that is still held under the same token, empty once somebody else took it over
+    Optional<Lease> renew(Lease lease, Duration ttl);
+
+    void release(Lease lease);
+
+    // Fencing check right before a write, false when the token has been superseded or the lease ran out
+    boolean isCurrent(Lease lease);
+
+    // Queue of events saved on a replica that does not schedule them, read by the replica that does
+    void publishReplan(String eventName);
+
+    // Replans published after the given id, oldest first
+    List<EventReplan> replansAfter(long id, int limit);
+
+    // Id of the newest replan, 0 when there is none
+    long lastReplanId();
+
+    void pruneReplans(Instant before);
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import java.time.Duration;
+
+// Retry state of one request. RetryContextFilter creates it, and the same instance follows the request onto the
+// applicationTaskExecutor, the retry scheduler and the reactive client, so retries and fallbacks on any thread share it
+public final class RetryContext {
+
+    private static final ThreadLocal<RetryContext> CURRENT = new ThreadLocal<>();
+    // Handed out on threads that serve no request, records nothing
+    private static final RetryContext NONE = new RetryContext(false);
+
+    private final boolean active;
+    private int attempt;
+    private long cumulativeWaitMillis;
+    private Throwable lastException;
+
+    private RetryContext(boolean active) {
+        this.active = active;
+    }
+
+    public static RetryContext current() {
+        RetryContext context = CURRENT.get();
+        return context != null ? context : NONE;
+    }
+
+    public static RetryContext begin() {
+        RetryContext context = new RetryContext(true);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // Binds a context captured on another thread, returns the one it replaces so the caller can put it back
+    public static RetryContext bind(RetryContext context) {
+        RetryContext previous = CURRENT.get();
+        if(context == null || context == NONE) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    public synchronized void onRetry(int attempt, Duration wait, Throwable lastException) {
+        if(!active) {
+            return;
+        }
+        this.attempt = attempt;
+        this.cumulativeWaitMillis += wait.toMillis();
+        this.lastException = lastException;
+    }
+
+    public synchronized boolean isRetry() {
+        return active && attempt > 0;
+    }
+
+    public synchronized int getAttempt() {
+        return attempt;
+    }
+
+    public synchronized long getCumulativeWaitMillis() {
+        return cumulativeWaitMillis;
+    }
+
+    public synchronized Throwable getLastException() {
+        return lastException;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RetryContext{" +
+                "attempt=" + attempt +
+                ", cumulativeWaitMillis=" + cumulativeWaitMillis +
+                ", lastException=" + (lastException == null ? null : lastException.getClass().getSimpleName()) +
+                '}';
+    }
+}
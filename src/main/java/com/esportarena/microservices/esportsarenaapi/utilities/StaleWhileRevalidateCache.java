@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.ToIntFunction;
+
+// Response cache for public reads. An entry older than fresh is still served while a single reload per key runs in the
+// background, a failed reload keeps the previous value until it is fresh + stale old
+public class StaleWhileRevalidateCache<K, V> {
+
+    private final AsyncLoadingCache<K, Optional<V>> cache;
+    private final CacheControl cacheControl;
+
+    public StaleWhileRevalidateCache(Duration fresh, Duration stale, long maximumSize, Executor executor, FutureUtils.CheckedFunction<K, V> loader) {
+        this(Caffeine.newBuilder().maximumSize(maximumSize), fresh, stale, executor, loader);
+    }
+
+    // For values whose size varies a lot, the cache is bounded by the total weight rather than the entry count
+    public StaleWhileRevalidateCache(Duration fresh, Duration stale, long maximumWeight, ToIntFunction<V> weigher, Executor executor,
+                                     FutureUtils.CheckedFunction<K, V> loader) {
+        this(Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((K key, Optional<V> value) -> value.map(weigher::applyAsInt).orElse(1)), fresh, stale, executor, loader);
+    }
+
+    private StaleWhileRevalidateCache(Caffeine<? super K, ? super Optional<V>> bounded, Duration fresh, Duration stale, Executor executor,
+                                      FutureUtils.CheckedFunction<K, V> loader) {
+        this.cache = bounded
+                .refreshAfterWrite(fresh)
+                .expireAfterWrite(fresh.plus(stale))
+                .executor(executor)
+                .recordStats()
+                .buildAsync(key -> Optional.ofNullable(loader.apply(key)));
+        this.cacheControl = CacheControl.maxAge(fresh)
+                .cachePublic()
+                .staleWhileRevalidate(stale)
+                .staleIfError(stale);
+    }
+
+    public CompletableFuture<V> get(K key) {
+        return cache.get(key).thenApply(value -> value.orElse(null));
+    }
+
+    public void invalidate(K key) {
+        if(key != null) {
+            cache.synchronous().invalidate(key);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheControl getCacheControl() {
+        return cacheControl;
+    }
+
+    public LoadingCache<K, Optional<V>> synchronous() {
+        return cache.synchronous();
+    }
+}
@@ -17,6 +17,7 @@ public class StringConstants {
     public static final String VALIDATION_PASSED_DB = "Validation passed for incoming request from DB";
     public static final String FALLBACK_MESSAGE = "Something went wrong. Please try again later";
     public static final String RETRY_MESSAGE = "Something went wrong. Doing retry...";
+    public static final String FALLBACK_RETRY_MESSAGE = "Something went wrong. Please try again later. {}";
 
     public static final String USERNAME = "USERNAME";
     public static final String PASSWORD = "PASSWORD";
@@ -52,6 +53,7 @@ public class StringConstants {
     public static final String IS_A_VIEWER = "User is a viewer";
     public static final String NOT_A_VIEWER = "User is not a viewer";
     public static final String NO_ACTIVE_GAMES = "Currently no active games";
+    public static final String PARTIAL_RESPONSE = "Some sections could not be loaded";
 
     private StringConstants(){}
 
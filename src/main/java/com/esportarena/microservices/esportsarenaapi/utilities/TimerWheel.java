@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024.
+ * Created this for the project called "TheJackFolio"
+ * All right reserved by Jack
+ */
+
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// Hierarchical timing wheel, one timer per key. Only buckets that hold timers sit in the delay queue,
+// so the thread calling poll sleeps until the next bucket is due instead of ticking through empty slots
+public class TimerWheel<K> {
+
+    private final LongSupplier clock;
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private final Level root;
+
+    public TimerWheel(Duration tick, int wheelSize, LongSupplier clock) {
+        if(tick.toMillis() < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("tick must be at least 1ms and wheelSize at least 2");
+        }
+        this.clock = clock;
+        this.root = new Level(tick.toMillis(), wheelSize, clock.getAsLong());
+    }
+
+    public TimerWheel(Duration tick, int wheelSize) {
+        this(tick, wheelSize, System::currentTimeMillis);
+    }
+
+    // Replaces any timer already held for the key, a due time in the past fires on the next poll
+    public synchronized void schedule(K key, Instant due, Runnable task) {
+        cancel(key);
+        Timer<K> timer = new Timer<>(key, due.toEpochMilli(), task);
+        timers.put(key, timer);
+        if(!root.add(timer)) {
+            Bucket immediate = new Bucket();
+            immediate.add(timer);
+            immediate.setExpiration(clock.getAsLong());
+            queue.offer(immediate);
+        }
+    }
+
+    public synchronized boolean cancel(K key) {
+        Timer<K> timer = timers.remove(key);
+        if(timer == null) {
+            return false;
+        }
+        timer.bucket.remove(timer);
+        return true;
+    }
+
+    public synchronized boolean isScheduled(K key) {
+        return timers.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    // Waits up to the timeout for the earliest bucket, then returns every task that is due, it does not run them
+    public List<Runnable> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Bucket bucket = queue.poll(timeout, unit);
+        List<Runnable> due = new ArrayList<>();
+        while(bucket != null) {
+            synchronized(this) {
+                root.advance(bucket.getExpiration());
+                for(Timer<K> timer : bucket.flush()) {
+                    if(timers.get(timer.key) != timer) {
+                        continue;
+                    }
+                    // Timers from a coarse level cascade down, only the ones inside the current tick are due
+                    if(!root.add(timer)) {
+                        timers.remove(timer.key);
+                        due.add(timer.task);
+                    }
+                }
+            }
+            bucket = queue.poll();
+        }
+        return due;
+    }
+
+    private class Level {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long intervalMillis;
+        private final List<Bucket> buckets;
+        private long currentMillis;
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for(int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket());
+            }
+            this.currentMillis = startMillis - (startMillis % tickMillis);
+        }
+
+        private boolean add(Timer<K> timer) {
+            if(timer.dueMillis < currentMillis + tickMillis) {
+                return false;
+            }
+            if(timer.dueMillis < currentMillis + intervalMillis) {
+                long virtualId = timer.dueMillis / tickMillis;
+                Bucket bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.add(timer);
+                // A bucket is queued again only when it is reused for a new round
+                if(bucket.setExpiration(virtualId * tickMillis)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            if(overflow == null) {
+                overflow = new Level(intervalMillis, wheelSize, currentMillis);
+            }
+            return overflow.add(timer);
+        }
+
+        private void advance(long millis) {
+            if(millis >= currentMillis + tickMillis) {
+                currentMillis = millis - (millis % tickMillis);
+                if(overflow != null) {
+                    overflow.advance(currentMillis);
+                }
+            }
+        }
+    }
+
+    private class Bucket implements Delayed {
+
+        private final Set<Timer<K>> entries = new LinkedHashSet<>();
+        private volatile long expiration = -1;
+
+        private void add(Timer<K> timer) {
+            entries.add(timer);
+            timer.bucket = this;
+        }
+
+        private void remove(Timer<K> timer) {
+            entries.remove(timer);
+        }
+
+        private List<Timer<K>> flush() {
+            List<Timer<K>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1;
+            return flushed;
+        }
+
+        private boolean setExpiration(long millis) {
+            long previous = expiration;
+            expiration = millis;
+            return previous != millis;
+        }
+
+        private long getExpiration() {
+            return expiration;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(expiration - clock.getAsLong(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration, ((Bucket) other).expiration);
+        }
+    }
+
+    private static class Timer<K> {
+
+        private final K key;
+        private final long dueMillis;
+        private final Runnable task;
+        private TimerWheel<K>.Bucket bucket;
+
+        private Timer(K key, long dueMillis, Runnable task) {
+            this.key = key;
+            this.dueMillis = dueMillis;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.esportarena.microservices.esportsarenaapi.clients.AsyncTheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Sustained requests per second of a blocking endpoint and a CompletableFuture endpoint against a slow DATABASE-SERVICE.
+// Both are served by the same small request pool, standing in for Tomcat's, the blocking one holds a request thread for
+// the whole upstream call and the async one hands it to the applicationTaskExecutor
+// mvn -Pbenchmarks test-compile exec:exec -Dbenchmark=AsyncClientBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class AsyncClientBenchmark {
+
+    private static final int REQUEST_THREADS = 16;
+    // No more than the applicationTaskExecutor queue holds, so the async variant never sees a rejection
+    private static final int REQUESTS = 2_000;
+
+    @Param({"50", "200"})
+    public int upstreamDelayMillis;
+
+    private StubDatabaseService stub;
+    private CloseableHttpClient httpClient;
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+    private ExecutorService requestPool;
+    private TheJackFolioDBClient dbClient;
+    private AsyncTheJackFolioDBClient asyncDbClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = new StubDatabaseService(Duration.ofMillis(upstreamDelayMillis));
+        // Large enough that neither variant waits on a connection
+        httpClient = BenchmarkClients.pooledHttpClient(512);
+        dbClient = BenchmarkClients.hc5(httpClient, stub.baseUrl());
+        applicationTaskExecutor = BenchmarkClients.applicationTaskExecutor();
+        asyncDbClient = new AsyncTheJackFolioDBClient();
+        ReflectionTestUtils.setField(asyncDbClient, "dbClient", dbClient);
+        ReflectionTestUtils.setField(asyncDbClient, "executor", applicationTaskExecutor);
+        requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        requestPool.shutdownNow();
+        applicationTaskExecutor.shutdown();
+        httpClient.close();
+        stub.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void blocking() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for(int request = 0; request < REQUESTS; request++) {
+            requestPool.execute(() -> {
+                try {
+                    dbClient.getEvent("final");
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void async() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for(int request = 0; request < REQUESTS; request++) {
+            requestPool.execute(() -> asyncDbClient.getEvent("final").whenComplete((response, exception) -> done.countDown()));
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,62 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import feign.Client;
+import feign.Feign;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// The clients the benchmarks run against the stub, built without a Spring context. They keep the production interface,
+// contract and decoders and leave out the capabilities, which would add the same cost to every variant
+final class BenchmarkClients {
+
+    static TheJackFolioDBClient feign(Client client, String url) {
+        ObjectFactory<HttpMessageConverters> converters = () -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(converters))
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(converters)))
+                .client(client)
+                .target(TheJackFolioDBClient.class, url);
+    }
+
+    static CloseableHttpClient pooledHttpClient(int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .build();
+        return HttpClients.custom()
+                .disableCookieManagement()
+                .setConnectionManager(connectionManager)
+                .build();
+    }
+
+    static TheJackFolioDBClient hc5(CloseableHttpClient httpClient, String url) {
+        return feign(new ApacheHttp5Client(httpClient), url);
+    }
+
+    // Same sizes as spring.task.execution.pool in application.properties
+    static ThreadPoolTaskExecutor applicationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("db-client-");
+        executor.setCorePoolSize(32);
+        executor.setMaxPoolSize(256);
+        executor.setQueueCapacity(2000);
+        executor.initialize();
+        return executor;
+    }
+
+    private BenchmarkClients(){}
+
+}
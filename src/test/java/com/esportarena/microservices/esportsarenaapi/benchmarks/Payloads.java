@@ -0,0 +1,60 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.esportarena.microservices.esportsarenaapi.enums.EventStatus;
+import com.esportarena.microservices.esportsarenaapi.enums.EventType;
+import com.esportarena.microservices.esportsarenaapi.models.Document;
+import com.esportarena.microservices.esportsarenaapi.models.Event;
+import com.esportarena.microservices.esportsarenaapi.models.Rule;
+import com.esportarena.microservices.esportsarenaapi.models.TeamWithCount;
+import com.esportarena.microservices.esportsarenaapi.models.TeamWithPoints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Response bodies shaped like DATABASE-SERVICE's, seeded so every run and every format sees the same content
+final class Payloads {
+
+    static Event event(int index) {
+        List<Rule> rules = new ArrayList<>();
+        for(int rule = 1; rule <= 8; rule++) {
+            rules.add(new Rule(rule, "Rule " + rule + " of event " + index + ", players must check in fifteen minutes before their slot"));
+        }
+        return new Event("event-" + index, "organizer" + (index % 50) + "@arena.gg", EventStatus.ACTIVE, "2026-11-" + (10 + index % 18),
+                "18:00", "02:00", 4, 25, index % 25, index % 2 == 0 ? EventType.FREE : EventType.PAID, 1000f + index, rules, null, "game-" + (index % 10));
+    }
+
+    static List<Event> upcomingEvents(int count) {
+        List<Event> events = new ArrayList<>();
+        for(int index = 0; index < count; index++) {
+            events.add(event(index));
+        }
+        return events;
+    }
+
+    static List<TeamWithPoints> teamsWithPoints(int count) {
+        List<TeamWithPoints> teams = new ArrayList<>();
+        for(int index = 0; index < count; index++) {
+            teams.add(new TeamWithPoints("team-" + index, 100.0 - index * 0.5));
+        }
+        return teams;
+    }
+
+    static List<TeamWithCount> teamsWithCount(int count) {
+        List<TeamWithCount> teams = new ArrayList<>();
+        for(int index = 0; index < count; index++) {
+            teams.add(new TeamWithCount("team-" + index, index % 4, index % 3 == 0));
+        }
+        return teams;
+    }
+
+    // Uploaded documents are mostly already compressed, so the bytes are random rather than repetitive
+    static Document document(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return new Document(bytes, null);
+    }
+
+    private Payloads(){}
+
+}
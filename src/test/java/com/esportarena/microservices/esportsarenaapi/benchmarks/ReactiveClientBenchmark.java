@@ -0,0 +1,122 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.esportarena.microservices.esportsarenaapi.clients.ReactiveTheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.clients.RetryBudget;
+import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// The same fan-out of findTeamsWithPoints calls made by ReactiveTheJackFolioDBClient on the event loop and by the
+// blocking Feign client on 256 request threads, the servlet stack's limit. The score is the time until the last call
+// returns, the threads each side needed are the difference that shows up in memory
+// mvn -Pbenchmarks test-compile exec:exec -Dbenchmark=ReactiveClientBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReactiveClientBenchmark {
+
+    private static final int SERVLET_THREADS = 256;
+
+    @Param({"2000"})
+    public int concurrentCalls;
+
+    @Param({"100"})
+    public int upstreamDelayMillis;
+
+    private StubDatabaseService stub;
+    private ConnectionProvider connectionProvider;
+    private ReactiveTheJackFolioDBClient reactiveDbClient;
+    private CloseableHttpClient httpClient;
+    private TheJackFolioDBClient dbClient;
+    private ExecutorService servletPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = new StubDatabaseService(Duration.ofMillis(upstreamDelayMillis));
+        connectionProvider = ConnectionProvider.builder("db-benchmark")
+                .maxConnections(concurrentCalls)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(stub.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        // The Feign side runs without capabilities, so the reactive side runs without its circuit breaker and bulkhead
+        DBClientProperties properties = new DBClientProperties();
+        properties.getCircuitBreaker().setEnabled(false);
+        properties.getBulkhead().setEnabled(false);
+        reactiveDbClient = new ReactiveTheJackFolioDBClient();
+        ReflectionTestUtils.setField(reactiveDbClient, "webClient", webClient);
+        ReflectionTestUtils.setField(reactiveDbClient, "properties", properties);
+        ReflectionTestUtils.setField(reactiveDbClient, "circuitBreakerRegistry", CircuitBreakerRegistry.ofDefaults());
+        ReflectionTestUtils.setField(reactiveDbClient, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(reactiveDbClient, "retryBudget", new RetryBudget(properties.getRetryBudget(), new SimpleMeterRegistry()));
+
+        httpClient = BenchmarkClients.pooledHttpClient(SERVLET_THREADS);
+        dbClient = BenchmarkClients.hc5(httpClient, stub.baseUrl());
+        servletPool = Executors.newFixedThreadPool(SERVLET_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        servletPool.shutdownNow();
+        httpClient.close();
+        connectionProvider.disposeLater().block();
+        stub.close();
+    }
+
+    @Benchmark
+    public void reactive() {
+        Flux.range(0, concurrentCalls)
+                .flatMap(call -> reactiveDbClient.findTeamsWithPoints(7), concurrentCalls)
+                .then()
+                .block();
+    }
+
+    @Benchmark
+    public void servlet() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentCalls);
+        for(int call = 0; call < concurrentCalls; call++) {
+            servletPool.execute(() -> {
+                try {
+                    dbClient.findTeamsWithPoints(7);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
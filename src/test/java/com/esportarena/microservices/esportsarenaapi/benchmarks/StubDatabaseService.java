@@ -0,0 +1,83 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Stands in for DATABASE-SERVICE. Every call is answered after a fixed delay from the event loop, so the stub holds
+// no thread per waiting call and thousands of slow calls cost it nothing
+class StubDatabaseService implements AutoCloseable {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final byte[] event;
+    private final byte[] upcomingEvents;
+    private final byte[] teamsWithCount;
+    private final byte[] teamsWithPoints;
+    private final byte[] document;
+    private final DisposableServer server;
+
+    StubDatabaseService(Duration delay) {
+        event = json(Payloads.event(1));
+        upcomingEvents = json(Payloads.upcomingEvents(50));
+        teamsWithCount = json(Payloads.teamsWithCount(64));
+        teamsWithPoints = json(Payloads.teamsWithPoints(64));
+        document = json(Payloads.document(256 * 1024));
+        // HTTP/1.1 and cleartext HTTP/2, the Http2Client transport upgrades, the others stay on HTTP/1.1
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .compress(1024)
+                .doOnChannelInit((observer, channel, address) -> connectionsOpened.incrementAndGet())
+                .handle((request, response) -> {
+                    Mono<byte[]> body = Mono.just(body(request.path()));
+                    return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                            .sendByteArray(delay.isZero() ? body : body.delayElement(delay));
+                })
+                .bindNow();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    long connectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    // request.path() has no leading slash
+    private byte[] body(String path) {
+        if(path.startsWith("events/get-upcoming-events")) {
+            return upcomingEvents;
+        } else if(path.startsWith("events/get-teams-with-count")) {
+            return teamsWithCount;
+        } else if(path.startsWith("events/get-teams-with-points")) {
+            return teamsWithPoints;
+        } else if(path.startsWith("events/get-document") || path.startsWith("clients/get-document")) {
+            return document;
+        }
+        return event;
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Latency of one call and connections opened per 10k calls for each Feign transport, with 64 callers at once.
+// hc5 is configured as in application.properties, http2 as spring.cloud.openfeign.http2client builds it, default is
+// Feign's HttpURLConnection client with the JDK's keep-alive cache
+// mvn -Pbenchmarks test-compile exec:exec -Dbenchmark=TransportBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(64)
+@Fork(1)
+public class TransportBenchmark {
+
+    @Param({"default", "hc5", "http2"})
+    public String transport;
+
+    @Param({"5"})
+    public int upstreamDelayMillis;
+
+    private StubDatabaseService stub;
+    private CloseableHttpClient httpClient;
+    private TheJackFolioDBClient dbClient;
+    private final AtomicLong calls = new AtomicLong();
+    private long connectionsAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = new StubDatabaseService(Duration.ofMillis(upstreamDelayMillis));
+        dbClient = BenchmarkClients.feign(client(), stub.baseUrl());
+    }
+
+    // Warmup opens most of the connections a transport will ever need, count only what the measured calls open
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        calls.set(0);
+        connectionsAtStart = stub.connectionsOpened();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportConnections() {
+        long opened = stub.connectionsOpened() - connectionsAtStart;
+        System.out.printf("%n%s: %d calls, %d connections opened, %.1f per 10k calls%n",
+                transport, calls.get(), opened, calls.get() == 0 ? 0.0 : opened * 10_000.0 / calls.get());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if(httpClient != null) {
+            httpClient.close();
+        }
+        stub.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> getEvent() {
+        calls.incrementAndGet();
+        return dbClient.getEvent("final");
+    }
+
+    private Client client() {
+        switch (transport) {
+            case "hc5":
+                httpClient = HttpClients.custom()
+                        .disableCookieManagement()
+                        .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                .setMaxConnTotal(400)
+                                .setMaxConnPerRoute(100)
+                                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                                .build())
+                        .build();
+                return new ApacheHttp5Client(httpClient);
+            case "http2":
+                return new Http2Client(HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(Duration.ofMillis(2000))
+                        .followRedirects(HttpClient.Redirect.ALWAYS)
+                        .build());
+            default:
+                return new Client.Default(null, null);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.esportarena.microservices.esportsarenaapi.clients.TheJackFolioDBClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// 5,000 blocking Feign calls to a slow DATABASE-SERVICE started at once, on platform threads capped at the
+// applicationTaskExecutor's 256 or on one virtual thread each, as spring.threads.virtual.enabled runs them.
+// The score is the time until the last call returns. The virtual variant needs a Java 21 runtime
+// mvn -Pbenchmarks test-compile exec:exec -Dbenchmark=VirtualThreadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int CONCURRENT_CALLS = 5_000;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"200"})
+    public int upstreamDelayMillis;
+
+    private StubDatabaseService stub;
+    private CloseableHttpClient httpClient;
+    private TheJackFolioDBClient dbClient;
+    private AsyncTaskExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = new StubDatabaseService(Duration.ofMillis(upstreamDelayMillis));
+        // One connection per call, so only the threads limit concurrency
+        httpClient = BenchmarkClients.pooledHttpClient(CONCURRENT_CALLS);
+        dbClient = BenchmarkClients.hc5(httpClient, stub.baseUrl());
+        if(threads.equals("virtual")) {
+            if(Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Virtual threads need a Java 21 runtime, this is " + Runtime.version());
+            }
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("db-client-");
+            virtualExecutor.setVirtualThreads(true);
+            executor = virtualExecutor;
+        } else {
+            // Unbounded queue, the production pool would reject past max-size plus queue-capacity
+            ThreadPoolTaskExecutor platformExecutor = new ThreadPoolTaskExecutor();
+            platformExecutor.setThreadNamePrefix("db-client-");
+            platformExecutor.setCorePoolSize(256);
+            platformExecutor.setMaxPoolSize(256);
+            platformExecutor.initialize();
+            executor = platformExecutor;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if(executor instanceof ThreadPoolTaskExecutor platformExecutor) {
+            platformExecutor.shutdown();
+        }
+        httpClient.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public void concurrentSlowCalls() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(CONCURRENT_CALLS);
+        for(int call = 0; call < CONCURRENT_CALLS; call++) {
+            executor.execute(() -> {
+                try {
+                    dbClient.getEvent("final");
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
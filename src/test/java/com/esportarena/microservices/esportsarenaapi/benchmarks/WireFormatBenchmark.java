@@ -0,0 +1,101 @@
+package com.esportarena.microservices.esportsarenaapi.benchmarks;
+
+import com.esportarena.microservices.esportsarenaapi.models.Document;
+import com.esportarena.microservices.esportsarenaapi.models.Event;
+import com.esportarena.microservices.esportsarenaapi.models.TeamWithPoints;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Bytes on the wire and CPU per response for the formats DATABASE-SERVICE can answer in, on the bodies of
+// findUpcomingEvents, findTeamsWithPoints and findDoc. The sizes are printed once per trial, the CPU cost is the
+// benchmark score. Mappers are built the way DBClientFeignConfiguration builds its converters
+// mvn -Pbenchmarks test-compile exec:exec -Dbenchmark=WireFormatBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"JSON", "JSON_GZIP", "SMILE", "CBOR"})
+    public String format;
+
+    @Param({"upcomingEvents", "teamsWithPoints", "document"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private boolean gzip;
+    private Object body;
+    private JavaType type;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        switch (format) {
+            case "SMILE":
+                mapper = Jackson2ObjectMapperBuilder.smile().build();
+                break;
+            case "CBOR":
+                mapper = Jackson2ObjectMapperBuilder.cbor().build();
+                break;
+            default:
+                mapper = Jackson2ObjectMapperBuilder.json().build();
+        }
+        gzip = format.equals("JSON_GZIP");
+        switch (payload) {
+            case "upcomingEvents":
+                body = Payloads.upcomingEvents(50);
+                type = mapper.getTypeFactory().constructCollectionType(List.class, Event.class);
+                break;
+            case "teamsWithPoints":
+                body = Payloads.teamsWithPoints(64);
+                type = mapper.getTypeFactory().constructCollectionType(List.class, TeamWithPoints.class);
+                break;
+            default:
+                body = Payloads.document(256 * 1024);
+                type = mapper.constructType(Document.class);
+        }
+        encoded = encode();
+        System.out.printf("%n%s %s: %d bytes on the wire%n", payload, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            mapper.writeValue(out, body);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        try(InputStream in = gzip ? new GZIPInputStream(new ByteArrayInputStream(encoded)) : new ByteArrayInputStream(encoded)) {
+            return mapper.readValue(in, type);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE_ID = "DATABASE-SERVICE";
+    private static final int CHOICES = 1_000;
+
+    private final ServiceInstance fast = instance("fast", 8081);
+    private final ServiceInstance slow = instance("slow", 8082);
+    private final ServiceInstance slower = instance("slower", 8083);
+    private final InstanceStatistics instanceStatistics = new InstanceStatistics(new DBClientProperties.LoadBalancer());
+    private final List<ServiceInstance> registry = new ArrayList<>();
+    private final LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+            new StaticListableBeanFactory(Map.of("supplier", supplier())).getBeanProvider(ServiceInstanceListSupplier.class), instanceStatistics);
+
+    @Test
+    void prefersTheFastInstanceOfTwo() {
+        registry.addAll(List.of(fast, slow));
+        complete(fast, Duration.ofMillis(5));
+        complete(slow, Duration.ofMillis(200));
+
+        // Both instances are sampled on every choice, the cheaper one always wins
+        assertThat(choose()).containsOnlyKeys("fast");
+    }
+
+    @Test
+    void sendsMostCallsToTheFastInstance() {
+        registry.addAll(List.of(fast, slow, slower));
+        complete(fast, Duration.ofMillis(5));
+        complete(slow, Duration.ofMillis(200));
+        complete(slower, Duration.ofMillis(400));
+
+        Map<String, Integer> chosen = choose();
+
+        // The fast instance wins whenever it is one of the two sampled, about two calls in three.
+        // The slower one only wins against nothing and is never chosen
+        assertThat(chosen.get("fast")).isGreaterThan(CHOICES / 2);
+        assertThat(chosen).doesNotContainKey("slower");
+    }
+
+    @Test
+    void forgetsInstancesThatLeftTheRegistry() {
+        registry.addAll(List.of(fast, slow));
+        complete(fast, Duration.ofMillis(5));
+        complete(slow, Duration.ofMillis(200));
+        assertThat(instanceStatistics.cost(slow)).isPositive();
+
+        registry.remove(slow);
+        loadBalancer.choose(new DefaultRequest<>(new RequestDataContext())).block();
+
+        assertThat(instanceStatistics.cost(slow)).isZero();
+        assertThat(instanceStatistics.cost(fast)).isPositive();
+    }
+
+    private Map<String, Integer> choose() {
+        Map<String, Integer> chosen = new HashMap<>();
+        for(int i = 0; i < CHOICES; i++) {
+            ServiceInstance instance = loadBalancer.choose(new DefaultRequest<>(new RequestDataContext())).block().getServer();
+            chosen.merge(instance.getInstanceId(), 1, Integer::sum);
+        }
+        return chosen;
+    }
+
+    // One finished call that took the given latency, as the LoadBalancerLifecycle callbacks report it
+    private void complete(ServiceInstance instance, Duration latency) {
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+        DefaultResponse lbResponse = new DefaultResponse(instance);
+        instanceStatistics.onStartRequest(request, lbResponse);
+        request.getContext().setRequestStartTime(System.nanoTime() - latency.toNanos());
+        instanceStatistics.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse));
+    }
+
+    private ServiceInstanceListSupplier supplier() {
+        return new ServiceInstanceListSupplier() {
+            @Override
+            public String getServiceId() {
+                return SERVICE_ID;
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.defer(() -> Flux.just(List.copyOf(registry)));
+            }
+        };
+    }
+
+    private static ServiceInstance instance(String id, int port) {
+        return new DefaultServiceInstance(id, SERVICE_ID, "10.0.0." + (port - 8080), port, false);
+    }
+}
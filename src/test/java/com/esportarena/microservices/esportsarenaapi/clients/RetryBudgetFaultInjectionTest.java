@@ -0,0 +1,106 @@
+package com.esportarena.microservices.esportsarenaapi.clients;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.configurations.RetryMetricsConsumer;
+import feign.Client;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetFaultInjectionTest {
+
+    private static final int CALLS = 10;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamAttempts = new AtomicInteger();
+    // Every upstream call fails at the transport
+    private final Client failingClient = (request, options) -> {
+        upstreamAttempts.incrementAndGet();
+        throw new IOException("injected failure");
+    };
+    private final Request request = Request.create(Request.HttpMethod.GET, "http://DATABASE-SERVICE/events/get-event/final",
+            Map.of(), null, StandardCharsets.UTF_8, null);
+
+    @Test
+    void retryBudgetCapsRetriesOnceItRunsDry() {
+        RetryBudget retryBudget = retryBudget(2);
+        DBClientProperties.CircuitBreaker breakerProperties = new DBClientProperties.CircuitBreaker();
+        breakerProperties.setEnabled(false);
+        Client client = new CircuitBreakerCapability(breakerProperties, circuitBreakerRegistry(), retryBudget).enrich(failingClient);
+
+        callRepeatedly(client, retry(retryBudget));
+
+        // The first call spends both tokens on two retries, the other nine go out once
+        assertThat(upstreamAttempts.get()).isEqualTo(3 + (CALLS - 1));
+        assertThat(meterRegistry.get("db.client.retry.budget.available").gauge().value()).isZero();
+    }
+
+    @Test
+    void openCircuitStopsAttemptsWithoutSpendingTheBudget() {
+        RetryBudget retryBudget = retryBudget(100);
+        CircuitBreakerRegistry circuitBreakerRegistry = circuitBreakerRegistry();
+        Client client = new CircuitBreakerCapability(new DBClientProperties.CircuitBreaker(), circuitBreakerRegistry, retryBudget).enrich(failingClient);
+
+        callRepeatedly(client, retry(retryBudget));
+
+        // Five failures open the breaker, the retry that runs into it and every later call never reach the upstream
+        assertThat(upstreamAttempts.get()).isEqualTo(5);
+        assertThat(circuitBreakerRegistry.getAllCircuitBreakers()).allMatch(breaker -> breaker.getState() == CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("db.client.retry.budget.available").gauge().value()).isEqualTo(96);
+    }
+
+    private void callRepeatedly(Client client, Retry retry) {
+        for(int i = 0; i < CALLS; i++) {
+            try {
+                Retry.decorateCheckedSupplier(retry, () -> client.execute(request, new Request.Options())).get();
+            } catch (IOException | CallNotPermittedException exception) {
+                // Expected, the fallback would take over here
+            } catch (Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+        }
+    }
+
+    private RetryBudget retryBudget(int maxTokens) {
+        DBClientProperties.RetryBudget properties = new DBClientProperties.RetryBudget();
+        // No refill, so the test sees exactly what retries took out
+        properties.setRatio(0);
+        properties.setMaxTokens(maxTokens);
+        return new RetryBudget(properties, meterRegistry);
+    }
+
+    private Retry retry(RetryBudget retryBudget) {
+        RetryConfig config = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryOnException(new RetryBudgetPredicate(retryBudget))
+                .build();
+        return RetryRegistry.of(config, new RetryMetricsConsumer(meterRegistry, retryBudget)).retry("find-event-db-retry");
+    }
+
+    private CircuitBreakerRegistry circuitBreakerRegistry() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(5)
+                .minimumNumberOfCalls(5)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build();
+        return CircuitBreakerRegistry.of(Map.of(CircuitBreakerCapability.CONFIG_NAME, config));
+    }
+}
@@ -0,0 +1,89 @@
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.controllers.EventController;
+import com.esportarena.microservices.esportsarenaapi.services.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class AsyncTimeoutInterceptorTest {
+
+    // spring.mvc.async.request-timeout
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final DBClientProperties.AsyncTimeout properties = new DBClientProperties.AsyncTimeout();
+
+    AsyncTimeoutInterceptorTest() {
+        properties.getRoutes().put("/events/get-document/**", Duration.ofSeconds(150));
+    }
+
+    // Goes through the real handler, an NDJSON Flux is written through an emitter that turns the async timeout off,
+    // so the stream outlives spring.mvc.async.request-timeout without a route of its own
+    @Test
+    void streamIsNotCutByTheDefaultAsyncTimeout() throws Exception {
+        EventService service = mock(EventService.class);
+        when(service.streamUpcomingEvents("player@arena.gg")).thenReturn(Flux.never());
+        EventController controller = new EventController();
+        ReflectionTestUtils.setField(controller, "service", service);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setAsyncRequestTimeout(DEFAULT_TIMEOUT.toMillis())
+                .build();
+
+        MvcResult result = mockMvc.perform(get("/events/stream/get-upcoming-events/player@arena.gg").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(-1L);
+    }
+
+    @Test
+    void coldDocumentLoadOutlivesTheDefaultAsyncTimeout() throws Exception {
+        MockHttpServletRequest request = startAsync("/events/get-document/7", new DeferredResult<>());
+
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(Duration.ofSeconds(150).toMillis());
+    }
+
+    @Test
+    void otherRoutesKeepTheDefaultAsyncTimeout() throws Exception {
+        MockHttpServletRequest request = startAsync("/events/get-event/final", new DeferredResult<>());
+
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(DEFAULT_TIMEOUT.toMillis());
+    }
+
+    @Test
+    void handlerTimeoutWinsOverTheRoute() throws Exception {
+        MockHttpServletRequest request = startAsync("/events/get-document/7", new DeferredResult<>(5_000L));
+
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(5_000L);
+    }
+
+    private MockHttpServletRequest startAsync(String path, DeferredResult<Object> deferredResult) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAsyncSupported(true);
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(DEFAULT_TIMEOUT.toMillis());
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(asyncWebRequest);
+        asyncManager.registerDeferredResultInterceptor(AsyncTimeoutInterceptor.class.getName(), new AsyncTimeoutInterceptor(properties));
+        asyncManager.startDeferredResultProcessing(deferredResult);
+        return request;
+    }
+}
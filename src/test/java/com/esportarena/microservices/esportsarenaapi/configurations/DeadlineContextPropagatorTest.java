@@ -0,0 +1,90 @@
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import com.esportarena.microservices.esportsarenaapi.clients.DeadlineCapability;
+import com.esportarena.microservices.esportsarenaapi.exceptions.DeadlineExceededException;
+import com.esportarena.microservices.esportsarenaapi.utilities.Deadline;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.core.ContextAwareScheduledThreadPoolExecutor;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// A retried async call runs its next attempt on the retry scheduler, which has to hand it the caller's deadline
+class DeadlineContextPropagatorTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private ContextAwareScheduledThreadPoolExecutor scheduler;
+    private ThreadPoolTaskExecutor executor;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = ContextAwareScheduledThreadPoolExecutor.newScheduledThreadPool()
+                .corePoolSize(1)
+                .contextPropagators(new DeadlineContextPropagator())
+                .build();
+        // Stands in for the applicationTaskExecutor the async DB client submits to
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setTaskDecorator(new DeadlineTaskDecorator());
+        executor.initialize();
+        Client failing = (request, options) -> {
+            calls.incrementAndGet();
+            throw new IOException("Connection reset");
+        };
+        client = new DeadlineCapability(new DBClientProperties.Deadline(), new SimpleMeterRegistry()).enrich(failing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+        scheduler.shutdownNow();
+        executor.shutdown();
+    }
+
+    @Test
+    void retriedCallStillRunsOutOfDeadline() {
+        Retry retry = Retry.of("get-event-db-retry", RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(300))
+                .ignoreExceptions(DeadlineExceededException.class)
+                .build());
+        Deadline.set(Deadline.after(Duration.ofMillis(100)));
+
+        Supplier<CompletionStage<Response>> call = Retry.decorateCompletionStage(retry, scheduler, this::callDatabase);
+        CompletableFuture<Response> result = call.get().toCompletableFuture();
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    private CompletableFuture<Response> callDatabase() {
+        Request request = Request.create(Request.HttpMethod.GET, "http://DATABASE-SERVICE/events/get-event/final", Map.of(), null, StandardCharsets.UTF_8, null);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return client.execute(request, new Request.Options());
+            } catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,23 @@
+package com.esportarena.microservices.esportsarenaapi.configurations;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseConfigTest {
+
+    @Test
+    void embeddedLeaseTableTurnsCoordinationOff() {
+        DBClientProperties properties = new DBClientProperties();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+        new LeaseConfig().jdbcLeaseStore(new JdbcTemplate(dataSource), properties);
+
+        assertThat(properties.getLeadership().isEnabled()).isFalse();
+        assertThat(properties.getSharding().isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,104 @@
+package com.esportarena.microservices.esportsarenaapi.services;
+
+import com.esportarena.microservices.esportsarenaapi.configurations.DBClientProperties;
+import com.esportarena.microservices.esportsarenaapi.enums.EventStatus;
+import com.esportarena.microservices.esportsarenaapi.models.Event;
+import com.esportarena.microservices.esportsarenaapi.servicehelpers.EventSchedulingServiceHelper;
+import com.esportarena.microservices.esportsarenaapi.utilities.JdbcLeaseStore;
+import com.esportarena.microservices.esportsarenaapi.utilities.TimerWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Two replicas on one database, the save lands on the replica that does not own the event
+class EventSchedulingServiceTest {
+
+    private static final String EVENT = "final";
+
+    private final EventShardOwnership ownerOwnership = mock(EventShardOwnership.class);
+    private final EventShardOwnership otherOwnership = mock(EventShardOwnership.class);
+    private final EventSchedulingServiceHelper ownerHelper = mock(EventSchedulingServiceHelper.class);
+    private final EventSchedulingServiceHelper otherHelper = mock(EventSchedulingServiceHelper.class);
+    private EventSchedulingService owner;
+    private EventSchedulingService other;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        when(ownerOwnership.owns(anyString())).thenReturn(true);
+        when(otherOwnership.owns(anyString())).thenReturn(false);
+        when(ownerHelper.findEvent(EVENT)).thenReturn(tomorrowsEvent());
+        owner = service(url, ownerOwnership, ownerHelper);
+        other = service(url, otherOwnership, otherHelper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        owner.stop();
+        other.stop();
+    }
+
+    @Test
+    void saveOnAnotherReplicaReachesTheOwner() throws Exception {
+        other.onSaved(tomorrowsEvent());
+        owner.pollReplans();
+        other.pollReplans();
+
+        assertThat(wheel(owner).isScheduled(EVENT)).isTrue();
+        assertThat(wheel(other).isScheduled(EVENT)).isFalse();
+        verify(ownerHelper).findEvent(EVENT);
+        verify(otherHelper, never()).findEvent(anyString());
+    }
+
+    @Test
+    void replanIsReadOnlyOnce() throws Exception {
+        other.onSaved(tomorrowsEvent());
+        owner.pollReplans();
+        owner.pollReplans();
+
+        verify(ownerHelper).findEvent(EVENT);
+    }
+
+    // Each replica opens its own connection to the same named database, as two processes would to a shared server
+    private static EventSchedulingService service(String url, EventShardOwnership ownership, EventSchedulingServiceHelper helper) {
+        JdbcLeaseStore leaseStore = new JdbcLeaseStore(new JdbcTemplate(new DriverManagerDataSource(url, "sa", "")), "scheduler_lease");
+        leaseStore.createTableIfMissing();
+        EventSchedulingService service = new EventSchedulingService();
+        ReflectionTestUtils.setField(service, "schedulingServiceHelper", helper);
+        ReflectionTestUtils.setField(service, "properties", new DBClientProperties());
+        ReflectionTestUtils.setField(service, "environment", new MockEnvironment());
+        ReflectionTestUtils.setField(service, "ownership", ownership);
+        ReflectionTestUtils.setField(service, "leaseStore", leaseStore);
+        service.start();
+        return service;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TimerWheel<String> wheel(EventSchedulingService service) {
+        return (TimerWheel<String>) ReflectionTestUtils.getField(service, "wheel");
+    }
+
+    private static Event tomorrowsEvent() {
+        Event event = new Event();
+        event.setName(EVENT);
+        event.setStatus(EventStatus.ACTIVE);
+        event.setDate(LocalDate.now().plusDays(1).toString());
+        event.setTime("18:00");
+        event.setDuration("02:00");
+        return event;
+    }
+}
@@ -0,0 +1,83 @@
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int KEYS = 10_000;
+    private static final List<String> MEMBERS = List.of("replica-a", "replica-b", "replica-c", "replica-d");
+
+    private final ConsistentHashRing ring = new ConsistentHashRing(MEMBERS, VIRTUAL_NODES);
+
+    @Test
+    void spreadsKeysEvenlyAcrossMembers() {
+        Map<String, Integer> owned = new HashMap<>();
+        for(String key : keys()) {
+            owned.merge(ring.owner(key), 1, Integer::sum);
+        }
+
+        double fairShare = (double) KEYS / MEMBERS.size();
+        assertThat(owned).containsOnlyKeys(MEMBERS);
+        assertThat(owned.values()).allSatisfy(count -> assertThat((double) count).isBetween(fairShare * 0.8, fairShare * 1.2));
+    }
+
+    @Test
+    void joiningMemberOnlyTakesAboutItsShare() {
+        List<String> members = new ArrayList<>(MEMBERS);
+        members.add("replica-e");
+        ConsistentHashRing grown = new ConsistentHashRing(members, VIRTUAL_NODES);
+
+        int moved = 0;
+        for(String key : keys()) {
+            if(!ring.owner(key).equals(grown.owner(key))) {
+                moved++;
+                // Keys only ever move to the new member, never between the existing ones
+                assertThat(grown.owner(key)).isEqualTo("replica-e");
+            }
+        }
+
+        assertMovedAbout(moved, members.size());
+    }
+
+    @Test
+    void leavingMemberOnlyGivesUpItsOwnKeys() {
+        ConsistentHashRing shrunk = new ConsistentHashRing(List.of("replica-a", "replica-b", "replica-d"), VIRTUAL_NODES);
+
+        int moved = 0;
+        for(String key : keys()) {
+            if(!ring.owner(key).equals(shrunk.owner(key))) {
+                moved++;
+                assertThat(ring.owner(key)).isEqualTo("replica-c");
+            }
+        }
+
+        assertMovedAbout(moved, MEMBERS.size());
+    }
+
+    @Test
+    void emptyRingOwnsNothing() {
+        assertThat(new ConsistentHashRing(List.of(), VIRTUAL_NODES).owner("final")).isNull();
+    }
+
+    // About 1/N of the keys, where N is the larger of the two memberships
+    private void assertMovedAbout(int moved, int members) {
+        double expected = (double) KEYS / members;
+        assertThat((double) moved).isBetween(expected * 0.5, expected * 1.5);
+    }
+
+    private List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        for(int i = 0; i < KEYS; i++) {
+            keys.add("event-" + i);
+        }
+        return keys;
+    }
+}
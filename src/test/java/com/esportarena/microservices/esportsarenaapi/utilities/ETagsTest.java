@@ -0,0 +1,37 @@
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import com.esportarena.microservices.esportsarenaapi.enums.EventStatus;
+import com.esportarena.microservices.esportsarenaapi.models.Event;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    // Pinned to the SHA-256 of the JSON, so the tag cannot start depending on anything local to one JVM
+    @Test
+    void tagIsTheHashOfTheSerializedContent() {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("status", EventStatus.ACTIVE);
+        model.put("name", "final");
+
+        assertThat(ETags.strong(model)).isEqualTo("\"c452725d9b4ef339805c075b785b0fb1\"");
+    }
+
+    @Test
+    void equalContentGetsTheSameTag() {
+        assertThat(ETags.strong(List.of(event(EventStatus.ACTIVE)))).isEqualTo(ETags.strong(List.of(event(EventStatus.ACTIVE))));
+        assertThat(ETags.strong(event(EventStatus.ACTIVE))).isNotEqualTo(ETags.strong(event(EventStatus.ONGOING)));
+    }
+
+    private static Event event(EventStatus status) {
+        Event event = new Event();
+        event.setName("final");
+        event.setStatus(status);
+        return event;
+    }
+}
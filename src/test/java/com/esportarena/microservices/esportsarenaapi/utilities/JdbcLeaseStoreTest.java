@@ -0,0 +1,103 @@
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import com.esportarena.microservices.esportsarenaapi.models.EventReplan;
+import com.esportarena.microservices.esportsarenaapi.models.Lease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcLeaseStoreTest {
+
+    private static final String LEASE = "event-status-scheduler";
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private JdbcLeaseStore store;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        store = new JdbcLeaseStore(new JdbcTemplate(dataSource), "scheduler_lease", clock::get);
+        store.createTableIfMissing();
+    }
+
+    @Test
+    void onlyOneReplicaHoldsTheLease() {
+        Optional<Lease> first = store.tryAcquire(LEASE, "replica-a", TTL);
+        Optional<Lease> second = store.tryAcquire(LEASE, "replica-b", TTL);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getToken()).isEqualTo(1);
+        assertThat(second).isEmpty();
+        assertThat(store.isCurrent(first.get())).isTrue();
+    }
+
+    @Test
+    void renewalKeepsTheLeaseAndTheToken() {
+        Lease lease = store.tryAcquire(LEASE, "replica-a", TTL).orElseThrow();
+
+        clock.addAndGet(Duration.ofSeconds(20).toMillis());
+        Lease renewed = store.renew(lease, TTL).orElseThrow();
+        clock.addAndGet(Duration.ofSeconds(20).toMillis());
+
+        assertThat(renewed.getToken()).isEqualTo(lease.getToken());
+        assertThat(store.tryAcquire(LEASE, "replica-b", TTL)).isEmpty();
+        assertThat(store.isCurrent(renewed)).isTrue();
+    }
+
+    @Test
+    void expiredLeaseFailsOverWithAHigherFencingToken() {
+        Lease stale = store.tryAcquire(LEASE, "replica-a", TTL).orElseThrow();
+
+        clock.addAndGet(TTL.toMillis());
+        Lease takenOver = store.tryAcquire(LEASE, "replica-b", TTL).orElseThrow();
+
+        assertThat(takenOver.getToken()).isGreaterThan(stale.getToken());
+        assertThat(store.isCurrent(stale)).isFalse();
+        assertThat(store.renew(stale, TTL)).isEmpty();
+        assertThat(store.isCurrent(takenOver)).isTrue();
+    }
+
+    @Test
+    void releasedLeaseCanBeTakenRightAway() {
+        Lease lease = store.tryAcquire(LEASE, "replica-a", TTL).orElseThrow();
+        store.release(lease);
+
+        Optional<Lease> next = store.tryAcquire(LEASE, "replica-b", TTL);
+
+        assertThat(next).isPresent();
+        assertThat(next.get().getToken()).isEqualTo(lease.getToken() + 1);
+    }
+
+    @Test
+    void replansAreReadInOrderFromTheCursor() {
+        long cursor = store.lastReplanId();
+        store.publishReplan("final");
+        store.publishReplan("semi-final");
+        store.publishReplan("final");
+
+        assertThat(store.replansAfter(cursor, 10)).extracting(EventReplan::getEventName).containsExactly("final", "semi-final", "final");
+        assertThat(store.replansAfter(cursor, 2)).hasSize(2);
+        assertThat(store.replansAfter(store.lastReplanId(), 10)).isEmpty();
+    }
+
+    @Test
+    void pruneDropsOnlyOldReplans() {
+        store.publishReplan("qualifier");
+        clock.addAndGet(Duration.ofHours(1).toMillis());
+        store.publishReplan("final");
+
+        store.pruneReplans(Instant.ofEpochMilli(clock.get()).minus(Duration.ofMinutes(30)));
+
+        assertThat(store.replansAfter(0, 10)).extracting(EventReplan::getEventName).containsExactly("final");
+    }
+}
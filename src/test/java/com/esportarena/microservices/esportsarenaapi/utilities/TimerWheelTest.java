@@ -0,0 +1,82 @@
+package com.esportarena.microservices.esportsarenaapi.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final TimerWheel<String> wheel = new TimerWheel<>(Duration.ofSeconds(1), 8, clock::get);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void firesEachTimerOnlyOnceItIsDue() throws InterruptedException {
+        schedule("soon", Duration.ofSeconds(3));
+        schedule("overflow", Duration.ofSeconds(70));
+        schedule("far", Duration.ofDays(2));
+
+        runDue();
+        assertThat(fired).isEmpty();
+
+        advance(Duration.ofSeconds(3));
+        runDue();
+        assertThat(fired).containsExactly("soon");
+
+        advance(Duration.ofSeconds(66));
+        runDue();
+        assertThat(fired).containsExactly("soon");
+
+        advance(Duration.ofSeconds(1));
+        runDue();
+        assertThat(fired).containsExactly("soon", "overflow");
+
+        advance(Duration.ofDays(2));
+        runDue();
+        assertThat(fired).containsExactly("soon", "overflow", "far");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rescheduleReplacesAndCancelRemoves() throws InterruptedException {
+        schedule("event", Duration.ofSeconds(2));
+        schedule("event", Duration.ofSeconds(20));
+        schedule("cancelled", Duration.ofSeconds(2));
+        assertThat(wheel.cancel("cancelled")).isTrue();
+
+        advance(Duration.ofSeconds(5));
+        runDue();
+        assertThat(fired).isEmpty();
+        assertThat(wheel.isScheduled("event")).isTrue();
+
+        advance(Duration.ofSeconds(15));
+        runDue();
+        assertThat(fired).containsExactly("event");
+    }
+
+    @Test
+    void pastDueTimerFiresOnNextPoll() throws InterruptedException {
+        schedule("late", Duration.ofMinutes(-5));
+        runDue();
+        assertThat(fired).containsExactly("late");
+    }
+
+    private void schedule(String key, Duration delay) {
+        wheel.schedule(key, Instant.ofEpochMilli(clock.get()).plus(delay), () -> fired.add(key));
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toMillis());
+    }
+
+    private void runDue() throws InterruptedException {
+        wheel.poll(0, TimeUnit.MILLISECONDS).forEach(Runnable::run);
+    }
+}